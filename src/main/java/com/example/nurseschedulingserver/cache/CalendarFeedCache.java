@@ -0,0 +1,71 @@
+package com.example.nurseschedulingserver.cache;
+
+import com.example.nurseschedulingserver.calendar.IcsWriter;
+import com.example.nurseschedulingserver.dto.calendar.CalendarFeedDto;
+import com.example.nurseschedulingserver.dto.shift.ShiftDto;
+import com.example.nurseschedulingserver.entity.shift.Shift;
+import com.example.nurseschedulingserver.event.ShiftsChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pre-rendered iCalendar feeds per nurse, covering the previous month through
+ * {@link #MONTHS_AHEAD} months ahead. A feed is dropped when one of its nurse's shifts changes,
+ * or when the window moves on to a new month.
+ */
+@Component
+@RequiredArgsConstructor
+public class CalendarFeedCache {
+    static final int MONTHS_AHEAD = 2;
+
+    private final RosterIndexCache rosterIndexCache;
+    private final GenerationalCache<String, Feed> feeds = new GenerationalCache<>();
+
+    public CalendarFeedDto getFeed(String nurseId, String departmentId, String departmentName) {
+        YearMonth currentMonth = YearMonth.now();
+        Feed feed = feeds.get(nurseId);
+        if (feed != null && feed.month().equals(currentMonth) && feed.departmentId().equals(departmentId)) {
+            return feed.calendar();
+        }
+        long buildGeneration = feeds.generation();
+        List<ShiftDto> shifts = new ArrayList<>();
+        for (YearMonth month = currentMonth.minusMonths(1); !month.isAfter(currentMonth.plusMonths(MONTHS_AHEAD)); month = month.plusMonths(1)) {
+            shifts.addAll(rosterIndexCache.getRoster(departmentId, month).getShiftsByNurse(nurseId));
+        }
+        byte[] body = IcsWriter.write("Vardiyalarım", departmentName, shifts);
+        feed = new Feed(currentMonth, departmentId, new CalendarFeedDto(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\""));
+        feeds.put(nurseId, feed, buildGeneration);
+        return feed.calendar();
+    }
+
+    public void evictNurse(String nurseId) {
+        feeds.evict(nurseId);
+    }
+
+    public void evictMonth(YearMonth month) {
+        feeds.evictIf((nurseId, feed) -> !month.isBefore(feed.month().minusMonths(1)) && !month.isAfter(feed.month().plusMonths(MONTHS_AHEAD)));
+    }
+
+    public void evictAll() {
+        feeds.evictAll();
+    }
+
+    // Runs after RosterIndexCache drops the rosters, so a feed rendered once the nurse's entry is gone sees the new shifts.
+    @Order(RosterIndexCache.EVICTION_ORDER + 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onShiftsChanged(ShiftsChangedEvent event) {
+        for (Shift shift : event.getShifts()) {
+            evictNurse(shift.getNurseId());
+        }
+    }
+
+    private record Feed(YearMonth month, String departmentId, CalendarFeedDto calendar) {
+    }
+}
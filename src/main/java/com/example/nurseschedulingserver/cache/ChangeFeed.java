@@ -0,0 +1,134 @@
+package com.example.nurseschedulingserver.cache;
+
+import com.example.nurseschedulingserver.enums.ChangeType;
+import com.example.nurseschedulingserver.event.OutboxMessageEvent;
+import com.example.nurseschedulingserver.event.RequestsChangedEvent;
+import com.example.nurseschedulingserver.notification.ChangeNotifier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-department log of committed shift, exchange request and off-day changes, each tagged with
+ * a sequence number that only grows. Clients see positions as {@link ChangeToken}s that also
+ * carry this process's random epoch. Only the latest {@link #CAPACITY} changes of a department
+ * are kept; a client whose token has been dropped or comes from another instance or an earlier
+ * run has to resync. Shift changes arrive through the outbox, so they are recorded once the
+ * dispatcher delivers them; changes written or dispatched on other replicas arrive through
+ * {@link InvalidationBus}. Every recorded change is also pushed to connected nurses through
+ * {@link ChangeNotifier}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeFeed {
+    static final int CAPACITY = 4096;
+
+    private final ChangeNotifier changeNotifier;
+    private final Map<String, DepartmentLog> logs = new ConcurrentHashMap<>();
+    private final String epoch = UUID.randomUUID().toString();
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile long resyncedThrough;
+
+    @EventListener
+    public void onOutboxMessage(OutboxMessageEvent event) {
+        record(event.getDepartmentId(), event.getType(), event.getIds(), event.getNurseIds());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRequestsChanged(RequestsChangedEvent event) {
+        record(event.getDepartmentId(), event.getType(), event.getIds(), event.getNurseIds());
+    }
+
+    public void record(String departmentId, ChangeType type, Collection<String> ids, Collection<String> nurseIds) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        DepartmentLog log = logs.computeIfAbsent(departmentId, key -> new DepartmentLog());
+        long latest;
+        synchronized (log) {
+            for (String id : ids) {
+                log.changes.addLast(new Change(sequence.incrementAndGet(), type, id));
+                if (log.changes.size() > CAPACITY) {
+                    log.droppedThrough = log.changes.removeFirst().sequence();
+                }
+            }
+            latest = log.changes.getLast().sequence();
+        }
+        ChangeToken token = new ChangeToken(epoch, latest);
+        changeNotifier.notifyNurses(departmentId, nurseIds, type, ids, token);
+        changeNotifier.notifyDepartment(departmentId, token);
+    }
+
+    /**
+     * Makes every client of the department resync, for changes this node learned of without
+     * their ids.
+     */
+    public void resync(String departmentId) {
+        DepartmentLog log = logs.computeIfAbsent(departmentId, key -> new DepartmentLog());
+        long latest;
+        synchronized (log) {
+            latest = sequence.incrementAndGet();
+            log.changes.clear();
+            log.droppedThrough = latest;
+        }
+        changeNotifier.notifyDepartment(departmentId, new ChangeToken(epoch, latest));
+    }
+
+    /**
+     * Makes every client resync, for when this node may have missed changes altogether.
+     */
+    public void resyncAll() {
+        long latest = sequence.incrementAndGet();
+        resyncedThrough = latest;
+        changeNotifier.notifyAllDepartments(new ChangeToken(epoch, latest));
+    }
+
+    /**
+     * The department's changes after {@code since}, or null when they can no longer be
+     * reconstructed and the client has to resync.
+     */
+    public ChangeSet getChangesSince(String departmentId, String since) {
+        ChangeToken token = ChangeToken.parse(since);
+        if (token == null || !epoch.equals(token.epoch())) {
+            return null;
+        }
+        DepartmentLog log = logs.computeIfAbsent(departmentId, key -> new DepartmentLog());
+        synchronized (log) {
+            long latest = sequence.get();
+            if (token.sequence() < Math.max(log.droppedThrough, resyncedThrough) || token.sequence() > latest) {
+                return null;
+            }
+            List<Change> changes = new ArrayList<>();
+            Iterator<Change> iterator = log.changes.descendingIterator();
+            while (iterator.hasNext()) {
+                Change change = iterator.next();
+                if (change.sequence() <= token.sequence()) {
+                    break;
+                }
+                changes.add(change);
+            }
+            Collections.reverse(changes);
+            return new ChangeSet(new ChangeToken(epoch, latest), changes);
+        }
+    }
+
+    public ChangeToken getToken() {
+        return new ChangeToken(epoch, sequence.get());
+    }
+
+    public record Change(long sequence, ChangeType type, String id) {
+    }
+
+    public record ChangeSet(ChangeToken token, List<Change> changes) {
+    }
+
+    private static class DepartmentLog {
+        private final ArrayDeque<Change> changes = new ArrayDeque<>();
+        private long droppedThrough;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.nurseschedulingserver.cache;
+
+/**
+ * Position in a {@link ChangeFeed}, written as {@code <epoch>.<sequence>}. The epoch is random per
+ * process, so a token handed out by another instance or an earlier run never matches and the
+ * client resyncs instead of silently skipping changes.
+ */
+public record ChangeToken(String epoch, long sequence) {
+
+    /**
+     * The token written by {@link #toString()}, or null when {@code token} is not one.
+     */
+    public static ChangeToken parse(String token) {
+        int separator = token.lastIndexOf('.');
+        if (separator <= 0) {
+            return null;
+        }
+        try {
+            return new ChangeToken(token.substring(0, separator), Long.parseLong(token.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return epoch + "." + sequence;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.nurseschedulingserver.cache;
+
+import com.example.nurseschedulingserver.dto.shift.ShiftDto;
+import com.example.nurseschedulingserver.repository.ShiftRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Roster reads that many nurses of a department issue with identical parameters at shift
+ * change. Concurrent identical calls share one query and the same (read-only) result list.
+ * Month reads also carry the caller's cache generation, so a call made after an eviction never
+ * joins a query that started before it. Date reads are shared per department and the caller's
+ * own shifts are filtered out here.
+ */
+@Component
+@RequiredArgsConstructor
+public class CoalescingShiftReader {
+    private final ShiftRepository shiftRepository;
+    private final SingleFlight<MonthKey, List<ShiftDto>> monthReads = new SingleFlight<>();
+    private final SingleFlight<DateKey, List<ShiftDto>> dateReads = new SingleFlight<>();
+
+    public List<ShiftDto> findAllShiftsByMonthAndYear(int month, int year, String departmentId, long generation) {
+        return monthReads.execute(new MonthKey(month, year, departmentId, generation),
+                () -> shiftRepository.findAllShiftsByMothAndYear(month, year, departmentId));
+    }
+
+    public List<ShiftDto> findAllShiftsByDate(String date, String nurseId, String departmentId) {
+        return dateReads.execute(new DateKey(date, departmentId),
+                        () -> shiftRepository.findAllShiftsByDateAndDepartmentId(date, departmentId)).stream()
+                .filter(shift -> !shift.getNurseId().equals(nurseId))
+                .toList();
+    }
+
+    public SingleFlight<?, ?> getMonthReads() {
+        return monthReads;
+    }
+
+    public SingleFlight<?, ?> getDateReads() {
+        return dateReads;
+    }
+
+    private record MonthKey(int month, int year, String departmentId, long generation) {
+    }
+
+    private record DateKey(String date, String departmentId) {
+    }
+}
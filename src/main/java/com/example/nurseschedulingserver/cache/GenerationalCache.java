@@ -0,0 +1,53 @@
+package com.example.nurseschedulingserver.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+
+/**
+ * Map for values built without holding a lock. Callers note {@link #generation()} before they
+ * start building and every eviction moves it on, so a value built across an eviction is still
+ * returned to its caller but never kept.
+ */
+final class GenerationalCache<K, V> {
+    private final Map<K, V> values = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    V get(K key) {
+        return values.get(key);
+    }
+
+    long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Keeps {@code value} unless an eviction happened since {@code buildGeneration}.
+     */
+    void put(K key, V value, long buildGeneration) {
+        if (generation.get() != buildGeneration) {
+            return;
+        }
+        values.put(key, value);
+        if (generation.get() != buildGeneration) {
+            // The eviction may have run before the value landed, so it could not drop it.
+            values.remove(key, value);
+        }
+    }
+
+    void evict(K key) {
+        generation.incrementAndGet();
+        values.remove(key);
+    }
+
+    void evictIf(BiPredicate<K, V> predicate) {
+        generation.incrementAndGet();
+        values.entrySet().removeIf(entry -> predicate.test(entry.getKey(), entry.getValue()));
+    }
+
+    void evictAll() {
+        generation.incrementAndGet();
+        values.clear();
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.nurseschedulingserver.cache;
+
+import com.example.nurseschedulingserver.enums.ChangeType;
+import com.example.nurseschedulingserver.event.OutboxMessageEvent;
+import com.example.nurseschedulingserver.event.RequestsChangedEvent;
+import com.example.nurseschedulingserver.event.ShiftsChangedEvent;
+import com.example.nurseschedulingserver.service.interfaces.CacheService;
+import com.example.nurseschedulingserver.service.interfaces.ScheduleVersionService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keeps the in-process caches of every replica in step over Postgres LISTEN/NOTIFY. Writes
+ * publish a short "node:type:key" payload on {@link #CHANNEL}; Postgres only delivers it once
+ * the writing transaction commits, and each other node evicts the matching entries. Change feed
+ * entries travel the same way, so every node's {@link ChangeFeed} records changes written or
+ * dispatched elsewhere; one too large for a notification makes the other nodes' clients of that
+ * department resync instead. After the listening connection drops, a node evicts everything and
+ * resyncs its feed since it may have missed messages.
+ */
+@Component
+@RequiredArgsConstructor
+public class InvalidationBus {
+    static final String CHANNEL = "cache_invalidation";
+    static final char ROSTER = 'R';
+    static final char CONSTRAINT = 'C';
+    static final char NURSES = 'N';
+    static final char FEED = 'F';
+    static final char FEED_RESYNC = 'D';
+    // Postgres rejects NOTIFY payloads of 8000 bytes or more.
+    static final int MAX_PAYLOAD_BYTES = 7999;
+    private static final String FIELD_SEPARATOR = ";";
+    private static final String ID_SEPARATOR = ",";
+    private static final int POLL_MILLIS = 500;
+    private static final long RETRY_MILLIS = 5000;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final RosterIndexCache rosterIndexCache;
+    private final CalendarFeedCache calendarFeedCache;
+    private final ScheduleVersionService scheduleVersionService;
+    private final CacheService cacheService;
+    private final ChangeFeed changeFeed;
+    private final String nodeId = Long.toString(UUID.randomUUID().getMostSignificantBits() & Long.MAX_VALUE, 36);
+    private volatile boolean enabled;
+    private volatile boolean running;
+    private Thread listener;
+
+    @PostConstruct
+    public void start() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            enabled = connection.isWrapperFor(PGConnection.class);
+        }
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listen, "cache-invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onShiftsChanged(ShiftsChangedEvent event) {
+        event.getMonths().forEach(month -> publish(ROSTER, month.toString()));
+    }
+
+    @EventListener
+    public void onOutboxMessage(OutboxMessageEvent event) {
+        publishChange(event.getDepartmentId(), event.getType(), event.getIds(), event.getNurseIds());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onRequestsChanged(RequestsChangedEvent event) {
+        publishChange(event.getDepartmentId(), event.getType(), event.getIds(), event.getNurseIds());
+    }
+
+    public void publishConstraintChanged(String constraintId) {
+        publish(CONSTRAINT, constraintId);
+    }
+
+    public void publishNursesChanged() {
+        publish(NURSES, "");
+    }
+
+    private void publishChange(String departmentId, ChangeType type, Collection<String> ids, Collection<String> nurseIds) {
+        if (!enabled || ids.isEmpty()) {
+            return;
+        }
+        String key = String.join(FIELD_SEPARATOR, departmentId, type.name(), String.join(ID_SEPARATOR, ids),
+                String.join(ID_SEPARATOR, nurseIds));
+        if (payload(FEED, key).getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+            publish(FEED_RESYNC, departmentId);
+        } else {
+            publish(FEED, key);
+        }
+    }
+
+    private void publish(char type, String key) {
+        if (enabled) {
+            jdbcTemplate.queryForRowSet("SELECT pg_notify(?, ?)", CHANNEL, payload(type, key));
+        }
+    }
+
+    private String payload(char type, String key) {
+        return nodeId + ":" + type + ":" + key;
+    }
+
+    void receive(String payload) {
+        String[] parts = payload.split(":", 3);
+        if (parts.length != 3 || parts[0].equals(nodeId) || parts[1].length() != 1) {
+            return;
+        }
+        switch (parts[1].charAt(0)) {
+            case ROSTER -> {
+                YearMonth month = YearMonth.parse(parts[2]);
+                rosterIndexCache.evictMonth(month);
+                calendarFeedCache.evictMonth(month);
+                scheduleVersionService.rosterChanged(month);
+            }
+            case CONSTRAINT -> cacheService.evictConstraint(parts[2]);
+            case NURSES -> {
+                cacheService.evictNurses();
+                scheduleVersionService.nursesChanged();
+            }
+            case FEED -> {
+                String[] fields = parts[2].split(FIELD_SEPARATOR, -1);
+                ChangeType type = fields.length == 4 ? parseChangeType(fields[1]) : null;
+                if (type != null) {
+                    changeFeed.record(fields[0], type, split(fields[2]), split(fields[3]));
+                }
+            }
+            case FEED_RESYNC -> changeFeed.resync(parts[2]);
+            default -> {
+            }
+        }
+    }
+
+    void evictAll() {
+        rosterIndexCache.evictAll();
+        calendarFeedCache.evictAll();
+        scheduleVersionService.rostersChanged();
+        scheduleVersionService.nursesChanged();
+        cacheService.evictAll();
+        changeFeed.resyncAll();
+    }
+
+    private static ChangeType parseChangeType(String value) {
+        try {
+            return ChangeType.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static List<String> split(String value) {
+        return value.isEmpty() ? List.of() : List.of(value.split(ID_SEPARATOR));
+    }
+
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + CHANNEL);
+                if (reconnecting) {
+                    evictAll();
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            receive(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                e.printStackTrace();
+                reconnecting = true;
+                try {
+                    Thread.sleep(RETRY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.nurseschedulingserver.cache;
+
+import com.example.nurseschedulingserver.dto.shift.RosterShiftDto;
+import com.example.nurseschedulingserver.dto.shift.ShiftDto;
+import com.example.nurseschedulingserver.enums.ShiftType;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * Immutable department-month roster held as primitive arrays. Shifts are grouped by nurse
+ * (offsets into the shift arrays) and a nurse x day matrix points at the first shift each
+ * nurse starts on a given day, so the read endpoints never touch the database.
+ */
+public class RosterIndex {
+    private static final long HOUR_MILLIS = 60 * 60 * 1000;
+    private static final int SHIFT_TYPES = ShiftType.values().length;
+
+    private final String departmentId;
+    private final YearMonth month;
+    private final int days;
+    private final String[] nurseIds;
+    private final String[] nurseFirstNames;
+    private final String[] nurseLastNames;
+    private final Map<String, Integer> nurseIndexes;
+    private final int[] nurseOffsets;
+    private final String[] shiftIds;
+    private final int[] shiftNurses;
+    private final int[] shiftDays;
+    private final long[] shiftStarts;
+    private final long[] shiftEnds;
+    private final byte[] shiftTypes;
+    private final int[] cells;
+    private final byte[] cellCounts;
+    private final int[] coverage;
+
+    private RosterIndex(String departmentId, YearMonth month, List<ShiftDto> shifts) {
+        this.departmentId = departmentId;
+        this.month = month;
+        this.days = month.lengthOfMonth();
+        ZoneId zone = ZoneId.systemDefault();
+
+        List<ShiftDto> sorted = new ArrayList<>(shifts);
+        sorted.sort(Comparator.comparing(ShiftDto::getNurseId).thenComparing(ShiftDto::getStartDate));
+
+        nurseIndexes = new HashMap<>();
+        List<String> ids = new ArrayList<>();
+        List<String> firstNames = new ArrayList<>();
+        List<String> lastNames = new ArrayList<>();
+        int count = sorted.size();
+        shiftIds = new String[count];
+        shiftNurses = new int[count];
+        shiftDays = new int[count];
+        shiftStarts = new long[count];
+        shiftEnds = new long[count];
+        shiftTypes = new byte[count];
+        for (int i = 0; i < count; i++) {
+            ShiftDto shift = sorted.get(i);
+            Integer nurseIndex = nurseIndexes.get(shift.getNurseId());
+            if (nurseIndex == null) {
+                nurseIndex = ids.size();
+                nurseIndexes.put(shift.getNurseId(), nurseIndex);
+                ids.add(shift.getNurseId());
+                firstNames.add(shift.getNurseFirstName());
+                lastNames.add(shift.getNurseLastName());
+            }
+            shiftIds[i] = shift.getId();
+            shiftNurses[i] = nurseIndex;
+            shiftStarts[i] = shift.getStartDate().getTime();
+            shiftEnds[i] = shift.getEndDate().getTime();
+            shiftDays[i] = Instant.ofEpochMilli(shiftStarts[i]).atZone(zone).getDayOfMonth() - 1;
+            ShiftType shiftType = ShiftType.fromDurationHours((shiftEnds[i] - shiftStarts[i]) / HOUR_MILLIS);
+            shiftTypes[i] = shiftType == null ? -1 : (byte) shiftType.ordinal();
+        }
+        nurseIds = ids.toArray(new String[0]);
+        nurseFirstNames = firstNames.toArray(new String[0]);
+        nurseLastNames = lastNames.toArray(new String[0]);
+
+        nurseOffsets = new int[nurseIds.length + 1];
+        for (int i = 0; i < count; i++) {
+            nurseOffsets[shiftNurses[i] + 1]++;
+        }
+        for (int n = 0; n < nurseIds.length; n++) {
+            nurseOffsets[n + 1] += nurseOffsets[n];
+        }
+
+        cells = new int[nurseIds.length * days];
+        cellCounts = new byte[nurseIds.length * days];
+        Arrays.fill(cells, -1);
+        for (int i = 0; i < count; i++) {
+            int cell = shiftNurses[i] * days + shiftDays[i];
+            if (cells[cell] == -1) {
+                cells[cell] = i;
+            }
+            cellCounts[cell]++;
+        }
+
+        coverage = new int[days * SHIFT_TYPES];
+        for (int i = 0; i < count; i++) {
+            if (shiftTypes[i] != -1) {
+                coverage[shiftDays[i] * SHIFT_TYPES + shiftTypes[i]]++;
+            }
+        }
+    }
+
+    public static RosterIndex build(String departmentId, YearMonth month, List<ShiftDto> shifts) {
+        return new RosterIndex(departmentId, month, shifts);
+    }
+
+    public String getDepartmentId() {
+        return departmentId;
+    }
+
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    public int getNurseCount() {
+        return nurseIds.length;
+    }
+
+    public int getShiftCount() {
+        return shiftIds.length;
+    }
+
+    public int getNurseIndex(String nurseId) {
+        Integer nurseIndex = nurseIndexes.get(nurseId);
+        return nurseIndex == null ? -1 : nurseIndex;
+    }
+
+    public String getNurseId(int nurseIndex) {
+        return nurseIds[nurseIndex];
+    }
+
+    public String getNurseFirstName(int nurseIndex) {
+        return nurseFirstNames[nurseIndex];
+    }
+
+    public String getNurseLastName(int nurseIndex) {
+        return nurseLastNames[nurseIndex];
+    }
+
+    public long getNurseHours(int nurseIndex) {
+        long millis = 0;
+        for (int i = nurseOffsets[nurseIndex]; i < nurseOffsets[nurseIndex + 1]; i++) {
+            millis += shiftEnds[i] - shiftStarts[i];
+        }
+        return millis / HOUR_MILLIS;
+    }
+
+    public int getNurseShiftCount(int nurseIndex, ShiftType shiftType) {
+        int count = 0;
+        for (int i = nurseOffsets[nurseIndex]; i < nurseOffsets[nurseIndex + 1]; i++) {
+            if (shiftTypes[i] == shiftType.ordinal()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int getCoverage(int day, ShiftType shiftType) {
+        return coverage[day * SHIFT_TYPES + shiftType.ordinal()];
+    }
+
+    public int getShiftType(int nurseIndex, int day) {
+        int shift = cells[nurseIndex * days + day];
+        return shift == -1 ? -1 : shiftTypes[shift];
+    }
+
+    public int getShiftCount(int nurseIndex, int day) {
+        return cellCounts[nurseIndex * days + day];
+    }
+
+    public String getShiftId(int nurseIndex, int day) {
+        int shift = cells[nurseIndex * days + day];
+        return shift == -1 ? null : shiftIds[shift];
+    }
+
+    public List<ShiftDto> getShifts() {
+        List<ShiftDto> shifts = new ArrayList<>(shiftIds.length);
+        for (int i = 0; i < shiftIds.length; i++) {
+            shifts.add(toDto(i));
+        }
+        return shifts;
+    }
+
+    public List<ShiftDto> getShiftsByNurse(String nurseId) {
+        int nurseIndex = getNurseIndex(nurseId);
+        if (nurseIndex == -1) {
+            return new ArrayList<>();
+        }
+        return getShiftsByNurse(nurseIndex);
+    }
+
+    public List<ShiftDto> getShiftsByNurse(int nurseIndex) {
+        List<ShiftDto> shifts = new ArrayList<>(nurseOffsets[nurseIndex + 1] - nurseOffsets[nurseIndex]);
+        for (int i = nurseOffsets[nurseIndex]; i < nurseOffsets[nurseIndex + 1]; i++) {
+            shifts.add(toDto(i));
+        }
+        return shifts;
+    }
+
+    public ShiftDto getShiftByNurseAndDay(String nurseId, int day) {
+        int nurseIndex = getNurseIndex(nurseId);
+        if (nurseIndex == -1) {
+            return null;
+        }
+        int shift = cells[nurseIndex * days + day];
+        return shift == -1 ? null : toDto(shift);
+    }
+
+    public List<ShiftDto> getShiftsByDayExcludingNurse(int day, String nurseId) {
+        int excludedNurse = getNurseIndex(nurseId);
+        List<ShiftDto> shifts = new ArrayList<>();
+        for (int i = 0; i < shiftIds.length; i++) {
+            if (shiftDays[i] == day && shiftNurses[i] != excludedNurse) {
+                shifts.add(toDto(i));
+            }
+        }
+        return shifts;
+    }
+
+    private ShiftDto toDto(int shift) {
+        int nurseIndex = shiftNurses[shift];
+        return new RosterShiftDto(shiftIds[shift], new Date(shiftStarts[shift]), new Date(shiftEnds[shift]),
+                nurseIds[nurseIndex], nurseFirstNames[nurseIndex], nurseLastNames[nurseIndex]);
+    }
+}
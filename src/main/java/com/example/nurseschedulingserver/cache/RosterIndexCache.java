@@ -0,0 +1,50 @@
+package com.example.nurseschedulingserver.cache;
+
+import com.example.nurseschedulingserver.event.ShiftsChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.YearMonth;
+
+@Component
+@RequiredArgsConstructor
+public class RosterIndexCache {
+    // Caches rendered from rosters order their shift listeners after this one.
+    static final int EVICTION_ORDER = Ordered.HIGHEST_PRECEDENCE;
+
+    private final CoalescingShiftReader shiftReader;
+    private final GenerationalCache<RosterKey, RosterIndex> rosters = new GenerationalCache<>();
+
+    public RosterIndex getRoster(String departmentId, YearMonth month) {
+        RosterKey key = new RosterKey(departmentId, month);
+        RosterIndex roster = rosters.get(key);
+        if (roster != null) {
+            return roster;
+        }
+        long buildGeneration = rosters.generation();
+        roster = RosterIndex.build(departmentId, month,
+                shiftReader.findAllShiftsByMonthAndYear(month.getMonthValue(), month.getYear(), departmentId, buildGeneration));
+        rosters.put(key, roster, buildGeneration);
+        return roster;
+    }
+
+    public void evictMonth(YearMonth month) {
+        rosters.evictIf((key, roster) -> key.month().equals(month));
+    }
+
+    public void evictAll() {
+        rosters.evictAll();
+    }
+
+    @Order(EVICTION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onShiftsChanged(ShiftsChangedEvent event) {
+        event.getMonths().forEach(this::evictMonth);
+    }
+
+    private record RosterKey(String departmentId, YearMonth month) {
+    }
+}
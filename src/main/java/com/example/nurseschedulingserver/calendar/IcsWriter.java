@@ -0,0 +1,82 @@
+package com.example.nurseschedulingserver.calendar;
+
+import com.example.nurseschedulingserver.dto.shift.ShiftDto;
+import com.example.nurseschedulingserver.enums.ShiftType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Renders shifts as an iCalendar (RFC 5545) feed. Output depends only on the shifts, so the same
+ * roster renders to the same bytes on every node and the bytes can be hashed into an ETag.
+ */
+public final class IcsWriter {
+    private static final String CRLF = "\r\n";
+    private static final DateTimeFormatter UTC_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    private IcsWriter() {
+    }
+
+    public static byte[] write(String calendarName, String location, List<ShiftDto> shifts) {
+        StringBuilder ics = new StringBuilder(256 + shifts.size() * 200);
+        line(ics, "BEGIN:VCALENDAR");
+        line(ics, "VERSION:2.0");
+        line(ics, "PRODID:-//Nurse Scheduling//Shifts//TR");
+        line(ics, "CALSCALE:GREGORIAN");
+        line(ics, "METHOD:PUBLISH");
+        line(ics, "X-WR-CALNAME:" + escape(calendarName));
+        for (ShiftDto shift : shifts) {
+            String start = format(shift.getStartDate());
+            line(ics, "BEGIN:VEVENT");
+            line(ics, "UID:" + shift.getId() + "@nurse-scheduling");
+            line(ics, "DTSTAMP:" + start);
+            line(ics, "DTSTART:" + start);
+            line(ics, "DTEND:" + format(shift.getEndDate()));
+            line(ics, "SUMMARY:" + escape(summary(shift)));
+            if (location != null) {
+                line(ics, "LOCATION:" + escape(location));
+            }
+            line(ics, "END:VEVENT");
+        }
+        line(ics, "END:VCALENDAR");
+        return ics.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String summary(ShiftDto shift) {
+        ShiftType shiftType = ShiftType.fromDurationHours((shift.getEndDate().getTime() - shift.getStartDate().getTime()) / (60 * 60 * 1000));
+        if (shiftType == null) {
+            return "Vardiya";
+        }
+        return switch (shiftType) {
+            case DAY -> "Gündüz Vardiyası";
+            case NIGHT -> "Gece Vardiyası";
+            case FULL -> "24 Saat Vardiya";
+        };
+    }
+
+    private static String format(Date date) {
+        return UTC_DATE_TIME.format(date.toInstant());
+    }
+
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\").replace(";", "\\;").replace(",", "\\,").replace("\n", "\\n");
+    }
+
+    private static void line(StringBuilder ics, String content) {
+        int octets = 0;
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            int size = c < 0x80 ? 1 : c < 0x800 ? 2 : Character.isSurrogate(c) ? 2 : 3;
+            if (octets + size > 75 && !Character.isLowSurrogate(c)) {
+                ics.append(CRLF).append(' ');
+                octets = 1;
+            }
+            ics.append(c);
+            octets += size;
+        }
+        ics.append(CRLF);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.nurseschedulingserver.configuration;
+
+import com.example.nurseschedulingserver.dto.shift.CompactRosterDto;
+import com.example.nurseschedulingserver.dto.shift.ShiftDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Writes any {@code List<ShiftDto>} response as a {@link CompactRosterDto} when the client asks
+ * for {@link #COMPACT_ROSTER} explicitly. It never advertises itself as producible, so requests
+ * accepting JSON or anything keep getting the plain shift list.
+ */
+public class CompactRosterHttpMessageConverter extends AbstractGenericHttpMessageConverter<List<ShiftDto>> {
+    public static final String COMPACT_ROSTER_VALUE = "application/vnd.nurse-scheduling.roster+json";
+    public static final MediaType COMPACT_ROSTER = MediaType.parseMediaType(COMPACT_ROSTER_VALUE);
+
+    private final ObjectMapper objectMapper;
+
+    public CompactRosterHttpMessageConverter(ObjectMapper objectMapper) {
+        super(COMPACT_ROSTER);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return List.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return mediaType != null && COMPACT_ROSTER.equalsTypeAndSubtype(mediaType) && isShiftList(type);
+    }
+
+    @Override
+    protected void writeInternal(List<ShiftDto> shifts, Type type, HttpOutputMessage outputMessage) throws IOException {
+        objectMapper.writeValue(StreamUtils.nonClosing(outputMessage.getBody()), CompactRosterDto.of(shifts));
+    }
+
+    @Override
+    protected List<ShiftDto> readInternal(Class<? extends List<ShiftDto>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Compact rosters are response only", inputMessage);
+    }
+
+    @Override
+    public List<ShiftDto> read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Compact rosters are response only", inputMessage);
+    }
+
+    private boolean isShiftList(Type type) {
+        return type instanceof ParameterizedType parameterizedType
+                && parameterizedType.getRawType() == List.class
+                && parameterizedType.getActualTypeArguments()[0] == ShiftDto.class;
+    }
+}
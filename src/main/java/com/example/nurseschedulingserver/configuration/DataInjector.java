@@ -1,5 +1,6 @@
 package com.example.nurseschedulingserver.configuration;
 
+import com.example.nurseschedulingserver.cache.InvalidationBus;
 import com.example.nurseschedulingserver.entity.department.Department;
 import com.example.nurseschedulingserver.entity.nurse.Nurse;
 import com.example.nurseschedulingserver.entity.offday.OffDay;
@@ -11,17 +12,22 @@ import com.example.nurseschedulingserver.enums.Role;
 import com.example.nurseschedulingserver.repository.*;
 import com.example.nurseschedulingserver.service.interfaces.CPService;
 import com.example.nurseschedulingserver.service.interfaces.ConstraintService;
+import com.example.nurseschedulingserver.service.interfaces.DepartmentService;
+import com.example.nurseschedulingserver.service.interfaces.ScheduleVersionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.LocalDate;
 import java.util.*;
 
 @Configuration
 @RequiredArgsConstructor
 public class DataInjector implements CommandLineRunner {
     private final DepartmentRepository departmentRepository;
+    private final DepartmentService departmentService;
     private final NurseRepository nurseRepository;
     private final OffDayRepository offDayRepository;
     private final PasswordEncoder passwordEncoder;
@@ -30,6 +36,9 @@ public class DataInjector implements CommandLineRunner {
     private final WorkDayRepository workDayRepository;
     private final ConstraintService constraintService;
     private final CPService cpService;
+    private final ScheduleVersionService scheduleVersionService;
+    private final JdbcTemplate jdbcTemplate;
+    private final InvalidationBus invalidationBus;
 
     @Override
     public void run(String... args) throws Exception {
@@ -38,7 +47,26 @@ public class DataInjector implements CommandLineRunner {
 //        injectWorkDays();
 //        injectConstraints();
 //        cpService.executeConstraint();
+        exchangeShiftRequestRepository.backfillInbox();
+        migrateOffDays();
+        migrateOutboxSequence();
     }
+
+    public void migrateOffDays() {
+        Integer legacyDateColumns = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns " +
+                        "WHERE table_name = 'off_days' AND column_name = 'date' AND data_type = 'character varying'", Integer.class);
+        if (legacyDateColumns != null && legacyDateColumns > 0) {
+            jdbcTemplate.execute("ALTER TABLE off_days ALTER COLUMN date TYPE date USING TO_DATE(date, 'DD.MM.YYYY')");
+        }
+        offDayRepository.backfillDepartmentIds();
+    }
+    public void migrateOutboxSequence() {
+        // Rows written while outbox ids came from an identity column must keep sorting first.
+        jdbcTemplate.queryForObject("SELECT setval('outbox_events_seq', GREATEST(" +
+                "(SELECT COALESCE(MAX(id), 0) FROM outbox_events), (SELECT last_value FROM outbox_events_seq)))", Long.class);
+    }
+
     public void injectConstraints() throws Exception {
         List<Department> departments = departmentRepository.findAll();
         for (Department department : departments) {
@@ -62,7 +90,7 @@ public class DataInjector implements CommandLineRunner {
         for (String s : departments) {
             Department department = new Department();
             department.setName(s);
-            departmentRepository.save(department);
+            departmentService.saveDepartment(department);
         }
     }
 
@@ -96,33 +124,21 @@ public class DataInjector implements CommandLineRunner {
             }
         }
         nurseRepository.saveAll(nurses);
+        scheduleVersionService.nursesChanged();
+        invalidationBus.publishNursesChanged();
     }
 
     public void injectOffDays() {
         List<Nurse> nurses = new ArrayList<>(nurseRepository.findAll().stream().filter(nurse -> nurse.getDepartmentId().equals("8cbb9908-5f44-4aa1-bd94-adf4cf6ce51d")).toList());
         nurses.removeIf(nurse -> nurse.getRole().equals(Role.CHARGE));
-        List<String> dates = new ArrayList<>();
-        dates.add("08.06.2024");
-        dates.add("09.06.2024");
-        dates.add("10.06.2024");
-        dates.add("11.06.2024");
-        dates.add("12.06.2024");
-        dates.add("13.06.2024");
-        dates.add("14.06.2024");
-        dates.add("15.06.2024");
-        dates.add("16.06.2024");
-        dates.add("17.06.2024");
-        dates.add("18.06.2024");
-        dates.add("19.06.2024");
-        dates.add("20.06.2024");
-        dates.add("21.06.2024");
-        dates.add("22.06.2024");
         List<OffDay> offDays = new ArrayList<>();
 
         for (int i = 0; i < 15; i++) {
             OffDay offDay = new OffDay();
-            offDay.setDate(dates.get(i));
-            offDay.setNurseId(nurses.get(new Random().nextInt(nurses.size())).getId());
+            Nurse nurse = nurses.get(new Random().nextInt(nurses.size()));
+            offDay.setDate(LocalDate.of(2024, 6, 8 + i));
+            offDay.setNurseId(nurse.getId());
+            offDay.setDepartmentId(nurse.getDepartmentId());
             offDay.setStatus(RequestStatus.PENDING);
             offDays.add(offDay);
         }
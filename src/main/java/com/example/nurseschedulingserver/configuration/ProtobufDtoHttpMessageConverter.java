@@ -0,0 +1,187 @@
+package com.example.nurseschedulingserver.configuration;
+
+import com.example.nurseschedulingserver.dto.shift.ExchangeShiftRequestDto;
+import com.example.nurseschedulingserver.dto.shift.ShiftDto;
+import com.example.nurseschedulingserver.dto.shift.SwapPartnerDto;
+import com.example.nurseschedulingserver.dto.workday.WorkDayResponseDto;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Writes the roster, exchange request inbox and work day responses in the protobuf wire format
+ * described by {@code dto/nurse_scheduling.proto}. The messages are encoded field by field with
+ * {@link CodedOutputStream}, so no generated classes are needed.
+ */
+public class ProtobufDtoHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+    public static final MediaType PROTOBUF = MediaType.parseMediaType("application/x-protobuf");
+
+    public ProtobufDtoHttpMessageConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return true;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return canWrite(mediaType) && (isListOf(type, ShiftDto.class) || isListOf(type, SwapPartnerDto.class)
+                || isListOf(type, ExchangeShiftRequestDto.class) || type == ShiftDto.class || type == WorkDayResponseDto.class);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        CodedOutputStream output = CodedOutputStream.newInstance(outputMessage.getBody());
+        if (isListOf(type, ShiftDto.class)) {
+            writeShifts(output, 1, (List<ShiftDto>) body);
+        } else if (isListOf(type, SwapPartnerDto.class)) {
+            for (SwapPartnerDto partner : (List<SwapPartnerDto>) body) {
+                writeMessageHeader(output, 1, swapPartnerSize(partner));
+                writeSwapPartner(output, partner);
+            }
+        } else if (isListOf(type, ExchangeShiftRequestDto.class)) {
+            for (ExchangeShiftRequestDto request : (List<ExchangeShiftRequestDto>) body) {
+                writeMessageHeader(output, 1, exchangeShiftRequestSize(request));
+                writeExchangeShiftRequest(output, request);
+            }
+        } else if (type == ShiftDto.class) {
+            writeShift(output, (ShiftDto) body);
+        } else {
+            writeWorkDay(output, (WorkDayResponseDto) body);
+        }
+        output.flush();
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf bodies are response only", inputMessage);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf bodies are response only", inputMessage);
+    }
+
+    private static boolean isListOf(Type type, Class<?> elementType) {
+        return type instanceof ParameterizedType parameterizedType
+                && parameterizedType.getRawType() == List.class
+                && parameterizedType.getActualTypeArguments()[0] == elementType;
+    }
+
+    private static void writeShifts(CodedOutputStream output, int fieldNumber, List<ShiftDto> shifts) throws IOException {
+        for (ShiftDto shift : shifts) {
+            writeMessageHeader(output, fieldNumber, shiftSize(shift));
+            writeShift(output, shift);
+        }
+    }
+
+    private static int shiftSize(ShiftDto shift) {
+        return stringSize(1, shift.getId()) + dateSize(2, shift.getStartDate()) + dateSize(3, shift.getEndDate())
+                + stringSize(4, shift.getNurseId()) + stringSize(5, shift.getNurseFirstName()) + stringSize(6, shift.getNurseLastName());
+    }
+
+    private static void writeShift(CodedOutputStream output, ShiftDto shift) throws IOException {
+        writeString(output, 1, shift.getId());
+        writeDate(output, 2, shift.getStartDate());
+        writeDate(output, 3, shift.getEndDate());
+        writeString(output, 4, shift.getNurseId());
+        writeString(output, 5, shift.getNurseFirstName());
+        writeString(output, 6, shift.getNurseLastName());
+    }
+
+    private static int swapPartnerSize(SwapPartnerDto partner) {
+        int size = stringSize(1, partner.getNurseId()) + stringSize(2, partner.getNurseFirstName()) + stringSize(3, partner.getNurseLastName());
+        for (ShiftDto shift : partner.getShifts()) {
+            int shiftSize = shiftSize(shift);
+            size += CodedOutputStream.computeTagSize(4) + CodedOutputStream.computeUInt32SizeNoTag(shiftSize) + shiftSize;
+        }
+        return size;
+    }
+
+    private static void writeSwapPartner(CodedOutputStream output, SwapPartnerDto partner) throws IOException {
+        writeString(output, 1, partner.getNurseId());
+        writeString(output, 2, partner.getNurseFirstName());
+        writeString(output, 3, partner.getNurseLastName());
+        writeShifts(output, 4, partner.getShifts());
+    }
+
+    private static int exchangeShiftRequestSize(ExchangeShiftRequestDto request) {
+        return stringSize(1, request.getId()) + stringSize(2, request.getRequesterShiftId()) + stringSize(3, request.getRequesterFullName())
+                + stringSize(4, request.getRequesterShiftStartDate()) + stringSize(5, request.getRequesterShiftEndDate())
+                + stringSize(6, request.getRequestedShiftId()) + stringSize(7, request.getRequestedFullName())
+                + stringSize(8, request.getRequestedShiftStartDate()) + stringSize(9, request.getRequestedShiftEndDate())
+                + stringSize(10, request.getStatus());
+    }
+
+    private static void writeExchangeShiftRequest(CodedOutputStream output, ExchangeShiftRequestDto request) throws IOException {
+        writeString(output, 1, request.getId());
+        writeString(output, 2, request.getRequesterShiftId());
+        writeString(output, 3, request.getRequesterFullName());
+        writeString(output, 4, request.getRequesterShiftStartDate());
+        writeString(output, 5, request.getRequesterShiftEndDate());
+        writeString(output, 6, request.getRequestedShiftId());
+        writeString(output, 7, request.getRequestedFullName());
+        writeString(output, 8, request.getRequestedShiftStartDate());
+        writeString(output, 9, request.getRequestedShiftEndDate());
+        writeString(output, 10, request.getStatus());
+    }
+
+    private static void writeWorkDay(CodedOutputStream output, WorkDayResponseDto workDay) throws IOException {
+        writeString(output, 1, workDay.getId());
+        if (workDay.getWorkDate() != null && !workDay.getWorkDate().isEmpty()) {
+            int size = 0;
+            for (Date date : workDay.getWorkDate()) {
+                size += CodedOutputStream.computeInt64SizeNoTag(date.getTime());
+            }
+            writeMessageHeader(output, 2, size);
+            for (Date date : workDay.getWorkDate()) {
+                output.writeInt64NoTag(date.getTime());
+            }
+        }
+        writeString(output, 3, workDay.getNurseId());
+        writeString(output, 4, workDay.getMessage());
+    }
+
+    private static void writeMessageHeader(CodedOutputStream output, int fieldNumber, int size) throws IOException {
+        output.writeTag(fieldNumber, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        output.writeUInt32NoTag(size);
+    }
+
+    private static int stringSize(int fieldNumber, String value) {
+        return value == null || value.isEmpty() ? 0 : CodedOutputStream.computeStringSize(fieldNumber, value);
+    }
+
+    private static void writeString(CodedOutputStream output, int fieldNumber, String value) throws IOException {
+        if (value != null && !value.isEmpty()) {
+            output.writeString(fieldNumber, value);
+        }
+    }
+
+    private static int dateSize(int fieldNumber, Date value) {
+        return value == null ? 0 : CodedOutputStream.computeInt64Size(fieldNumber, value.getTime());
+    }
+
+    private static void writeDate(CodedOutputStream output, int fieldNumber, Date value) throws IOException {
+        if (value != null) {
+            output.writeInt64(fieldNumber, value.getTime());
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.nurseschedulingserver.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfiguration implements WebMvcConfigurer {
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Before Jackson, which would otherwise write the plain list for the +json compact media type.
+        converters.add(0, new CompactRosterHttpMessageConverter(objectMapper));
+        // After Jackson, so clients accepting anything keep getting JSON.
+        converters.add(new ProtobufDtoHttpMessageConverter());
+    }
+}
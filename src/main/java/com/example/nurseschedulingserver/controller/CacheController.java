@@ -0,0 +1,29 @@
+package com.example.nurseschedulingserver.controller;
+
+import com.example.nurseschedulingserver.dto.cache.CacheStatisticsDto;
+import com.example.nurseschedulingserver.service.interfaces.CacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+public class CacheController {
+    private final CacheService cacheService;
+
+    @GetMapping("/statistics")
+    @PreAuthorize("hasAuthority('CHARGE')")
+    public ResponseEntity<CacheStatisticsDto> getCacheStatistics() {
+        try {
+            return new ResponseEntity<>(cacheService.getCacheStatistics(), HttpStatus.OK);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
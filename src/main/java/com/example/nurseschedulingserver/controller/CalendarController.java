@@ -0,0 +1,36 @@
+package com.example.nurseschedulingserver.controller;
+
+import com.example.nurseschedulingserver.dto.calendar.CalendarFeedDto;
+import com.example.nurseschedulingserver.service.interfaces.CalendarService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/api/calendar")
+@RequiredArgsConstructor
+public class CalendarController {
+    private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+    private final CalendarService calendarService;
+
+    @GetMapping("/my-shifts.ics")
+    public ResponseEntity<byte[]> getLoggedInUserCalendarFeed(WebRequest request) {
+        try {
+            CalendarFeedDto feed = calendarService.getLoggedInUserCalendarFeed();
+            if (request.checkNotModified(feed.getETag())) {
+                return null;
+            }
+            return ResponseEntity.ok().eTag(feed.getETag()).contentType(TEXT_CALENDAR).body(feed.getBody());
+        } catch (Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.nurseschedulingserver.controller;
+
+import com.example.nurseschedulingserver.dto.dashboard.MonthDashboardDto;
+import com.example.nurseschedulingserver.service.interfaces.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+    private final DashboardService dashboardService;
+
+    @GetMapping
+    @PreAuthorize("hasAuthority('CHARGE')")
+    public ResponseEntity<MonthDashboardDto> getMonthDashboard(@RequestParam(value = "month") String month, @RequestParam(value = "year") String year) {
+        try {
+            return new ResponseEntity<>(dashboardService.getMonthDashboard(month, year), HttpStatus.OK);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.example.nurseschedulingserver.controller;
 
+import com.example.nurseschedulingserver.dto.moderation.BulkStatusUpdateDto;
 import com.example.nurseschedulingserver.dto.shift.CreateExchangeShiftRequestDto;
+import com.example.nurseschedulingserver.dto.shift.ExchangeCycleDto;
 import com.example.nurseschedulingserver.dto.shift.ExchangeShiftRequestDto;
+import com.example.nurseschedulingserver.dto.shift.ExchangeShiftRequestUpdateDto;
 import com.example.nurseschedulingserver.service.interfaces.ExchangeShiftRequestService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -14,12 +18,29 @@ import java.util.List;
 @RequiredArgsConstructor
 @RequestMapping("/api/exchange-shift-requests")
 public class ExchangeShiftRequestController {
+    // /my-requests returns the first 20 pending requests of the month unless a size between 1 and 100 is given.
+    private static final String DEFAULT_PAGE_SIZE = "20";
+    private static final int MAX_PAGE_SIZE = 100;
     private final ExchangeShiftRequestService exchangeShiftRequestService;
 
     @GetMapping("/my-requests")
-    public ResponseEntity<List<ExchangeShiftRequestDto>> getMyExchangeShiftRequests() {
+    public ResponseEntity<List<ExchangeShiftRequestDto>> getMyExchangeShiftRequests(@RequestParam(value = "after", required = false) String after,
+                                                                                    @RequestParam(value = "size", defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        try {
+            return new ResponseEntity<>(exchangeShiftRequestService.getAllLoggedInUserExchangeShiftRequests(after, size), HttpStatus.OK);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping("/my-requests/count")
+    public ResponseEntity<Long> getMyPendingExchangeShiftRequestCount() {
         try {
-            return new ResponseEntity<>(exchangeShiftRequestService.getAllLoggedInUserExchangeShiftRequests(), HttpStatus.OK);
+            return new ResponseEntity<>(exchangeShiftRequestService.countLoggedInUserPendingExchangeShiftRequests(), HttpStatus.OK);
         } catch (Exception e) {
             e.printStackTrace();
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -54,4 +75,37 @@ public class ExchangeShiftRequestController {
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
+
+    @GetMapping("/cycles")
+    @PreAuthorize("hasAuthority('CHARGE')")
+    public ResponseEntity<List<ExchangeCycleDto>> getExchangeCycles(@RequestParam(value = "month") String month, @RequestParam(value = "year") String year) {
+        try {
+            return new ResponseEntity<>(exchangeShiftRequestService.getExchangeCycles(month, year), HttpStatus.OK);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @PatchMapping("/cycles/accept")
+    @PreAuthorize("hasAuthority('CHARGE')")
+    public ResponseEntity<String> acceptExchangeCycle(@RequestBody ExchangeCycleDto exchangeCycleDto) {
+        try {
+            return new ResponseEntity<>(exchangeShiftRequestService.acceptExchangeCycle(exchangeCycleDto), HttpStatus.OK);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @PatchMapping("/bulk")
+    @PreAuthorize("hasAuthority('CHARGE')")
+    public ResponseEntity<List<ExchangeShiftRequestUpdateDto>> updateStatuses(@RequestBody BulkStatusUpdateDto bulkStatusUpdateDto) {
+        try {
+            return new ResponseEntity<>(exchangeShiftRequestService.updateStatuses(bulkStatusUpdateDto), HttpStatus.OK);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
 }
@@ -0,0 +1,71 @@
+package com.example.nurseschedulingserver.controller;
+
+import com.example.nurseschedulingserver.dto.export.ExportStatisticsDto;
+import com.example.nurseschedulingserver.enums.ExportFormat;
+import com.example.nurseschedulingserver.security.UserPrincipal;
+import com.example.nurseschedulingserver.service.interfaces.NurseService;
+import com.example.nurseschedulingserver.service.interfaces.ShiftExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/exports")
+@RequiredArgsConstructor
+public class ExportController {
+    private final ShiftExportService shiftExportService;
+    private final NurseService nurseService;
+
+    @GetMapping("/shifts")
+    @PreAuthorize("hasAuthority('CHARGE')")
+    public ResponseEntity<StreamingResponseBody> exportShifts(@RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                              @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                              @RequestParam(name = "format", defaultValue = "CSV") ExportFormat format) {
+        if (to.isBefore(from)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        String departmentId = nurseService.getLoggedInUser().getDepartmentId();
+        String fileName = "shifts-" + from + "-" + to + "." + format.name().toLowerCase();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(outputStream -> shiftExportService.exportShifts(departmentId, from, to, format, outputStream));
+    }
+
+    @GetMapping("/shifts/all")
+    @PreAuthorize("hasAuthority('" + UserPrincipal.EXPORT_ALL_DEPARTMENTS + "')")
+    public ResponseEntity<StreamingResponseBody> exportAllShifts(@RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                 @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                 @RequestParam(name = "format", defaultValue = "CSV") ExportFormat format) {
+        if (to.isBefore(from)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        String fileName = "shifts-all-" + from + "-" + to + "." + format.name().toLowerCase();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(outputStream -> shiftExportService.exportAllShifts(from, to, format, outputStream));
+    }
+
+    @GetMapping("/statistics")
+    @PreAuthorize("hasAuthority('CHARGE')")
+    public ResponseEntity<ExportStatisticsDto> getExportStatistics() {
+        try {
+            return new ResponseEntity<>(shiftExportService.getExportStatistics(), HttpStatus.OK);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.nurseschedulingserver.controller;
 
 import com.example.nurseschedulingserver.dto.nurse.NurseDto;
+import com.example.nurseschedulingserver.dto.version.ScheduleVersionDto;
 import com.example.nurseschedulingserver.service.interfaces.NurseService;
+import com.example.nurseschedulingserver.service.interfaces.ScheduleVersionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,6 +11,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,6 +21,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class NurseController {
     private final NurseService nurseService;
+    private final ScheduleVersionService scheduleVersionService;
 
     @PreAuthorize("hasAuthority('CHARGE')")
     @GetMapping
@@ -31,9 +35,13 @@ public class NurseController {
     }
 
     @GetMapping("/listNurses")
-    public ResponseEntity<List<NurseDto>> getNursesList(@RequestParam(value = "department") String department) {
+    public ResponseEntity<List<NurseDto>> getNursesList(@RequestParam(value = "department") String department, WebRequest request) {
         try {
-            return new ResponseEntity<>(nurseService.getNursesList(department), HttpStatus.OK);
+            ScheduleVersionDto version = scheduleVersionService.getNurseListVersion(department, nurseService.getLoggedInUser().getId());
+            if (request.checkNotModified(version.getETag())) {
+                return null;
+            }
+            return ResponseEntity.ok().eTag(version.getETag()).body(nurseService.getNursesList(department));
         } catch (Exception e) {
             e.printStackTrace();
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
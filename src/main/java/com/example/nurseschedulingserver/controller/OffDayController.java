@@ -1,27 +1,35 @@
 package com.example.nurseschedulingserver.controller;
 
+import com.example.nurseschedulingserver.dto.moderation.BulkStatusUpdateDto;
 import com.example.nurseschedulingserver.dto.offday.OffDayResponseDto;
 import com.example.nurseschedulingserver.dto.offday.OffDayUpdateDto;
 import com.example.nurseschedulingserver.service.interfaces.OffDayService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RequestMapping("/api/off-days")
 @RestController
 @RequiredArgsConstructor
 public class OffDayController {
+    // GET /api/off-days returns 20 off days per page unless a size between 1 and 100 is given.
+    private static final String DEFAULT_PAGE_SIZE = "20";
+    private static final int MAX_PAGE_SIZE = 100;
     private final OffDayService offDayService;
 
     @GetMapping
     @PreAuthorize("hasAuthority('CHARGE')")
-    public ResponseEntity<Page<OffDayResponseDto>> getOffDays(Pageable pageable, @RequestParam(value = "status") String status) {
+    public ResponseEntity<List<OffDayResponseDto>> getOffDays(@RequestParam(value = "status") String status, @RequestParam(value = "after", required = false) String after,
+                                                              @RequestParam(value = "size", defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
         try{
-            return new ResponseEntity<>(offDayService.getOffDaysAsPagination(pageable,status), HttpStatus.OK);
+            return new ResponseEntity<>(offDayService.getOffDays(status,after,size), HttpStatus.OK);
         }
         catch (Exception e){
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
@@ -38,4 +46,15 @@ public class OffDayController {
             return new ResponseEntity<>(OffDayUpdateDto.buildForError(e.getMessage()),HttpStatus.BAD_REQUEST);
         }
     }
+
+    @PatchMapping("/bulk")
+    @PreAuthorize("hasAuthority('CHARGE')")
+    public ResponseEntity<List<OffDayUpdateDto>> updateStatuses(@RequestBody BulkStatusUpdateDto bulkStatusUpdateDto) {
+        try{
+            return new ResponseEntity<>(offDayService.updateStatuses(bulkStatusUpdateDto), HttpStatus.OK);
+        }
+        catch (Exception e){
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
 }
@@ -0,0 +1,35 @@
+package com.example.nurseschedulingserver.controller;
+
+import com.example.nurseschedulingserver.dto.replacement.ReplacementCandidateDto;
+import com.example.nurseschedulingserver.service.interfaces.ReplacementService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/replacements")
+@RequiredArgsConstructor
+public class ReplacementController {
+    private final ReplacementService replacementService;
+
+    @GetMapping
+    @PreAuthorize("hasAuthority('CHARGE')")
+    public ResponseEntity<List<ReplacementCandidateDto>> getReplacements(@RequestParam(value = "nurseId") String nurseId,
+                                                                         @RequestParam(value = "date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        try {
+            return new ResponseEntity<>(replacementService.getReplacements(nurseId, date), HttpStatus.OK);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -1,14 +1,25 @@
 package com.example.nurseschedulingserver.controller;
 
+import com.example.nurseschedulingserver.dto.auth.AuthProjection;
+import com.example.nurseschedulingserver.dto.nurse.NurseDto;
 import com.example.nurseschedulingserver.dto.shift.ExchangeShiftDto;
 import com.example.nurseschedulingserver.dto.shift.ShiftDto;
+import com.example.nurseschedulingserver.dto.shift.SwapPartnerDto;
+import com.example.nurseschedulingserver.dto.validation.RosterValidationDto;
+import com.example.nurseschedulingserver.dto.version.ScheduleVersionDto;
+import com.example.nurseschedulingserver.service.interfaces.NurseService;
+import com.example.nurseschedulingserver.service.interfaces.RosterValidationService;
+import com.example.nurseschedulingserver.service.interfaces.ScheduleVersionService;
 import com.example.nurseschedulingserver.service.interfaces.ShiftService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.YearMonth;
 import java.util.List;
 
 @RestController
@@ -16,6 +27,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ShiftController {
     private final ShiftService shiftService;
+    private final ScheduleVersionService scheduleVersionService;
+    private final NurseService nurseService;
+    private final RosterValidationService rosterValidationService;
 
     @GetMapping("/{id}")
     public ResponseEntity<ShiftDto> getShiftById(@PathVariable(value = "id") String id) {
@@ -40,9 +54,15 @@ public class ShiftController {
 
     @GetMapping
     @PreAuthorize("hasAuthority('CHARGE')")
-    public ResponseEntity<List<ShiftDto>> getShifts(@RequestParam(value = "month", required = false) String month, @RequestParam(value = "year", required = false) String year) {
+    public ResponseEntity<List<ShiftDto>> getShifts(@RequestParam(value = "month", required = false) String month, @RequestParam(value = "year", required = false) String year, WebRequest request) {
         try {
-            return new ResponseEntity<>(shiftService.getShifts(month,year), HttpStatus.OK);
+            AuthProjection user = nurseService.getLoggedInUser();
+            ScheduleVersionDto version = scheduleVersionService.getRosterVersion(user.getDepartmentId(),
+                    YearMonth.of(Integer.parseInt(year), Integer.parseInt(month) + 1), user.getId());
+            if (request.checkNotModified(version.getETag())) {
+                return null;
+            }
+            return ResponseEntity.ok().eTag(version.getETag()).varyBy(HttpHeaders.ACCEPT).body(shiftService.getShifts(month,year));
         } catch (Exception e) {
             e.printStackTrace();
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
@@ -59,9 +79,15 @@ public class ShiftController {
         }
     }
     @GetMapping("/{id}/{month}/{year}")
-    public ResponseEntity<List<ShiftDto>> getShiftsByMonthAndYear(@PathVariable(name = "id") String id ,@PathVariable(name = "month") String month, @PathVariable(name = "year") String year) {
+    public ResponseEntity<List<ShiftDto>> getShiftsByMonthAndYear(@PathVariable(name = "id") String id ,@PathVariable(name = "month") String month, @PathVariable(name = "year") String year, WebRequest request) {
         try {
-            return new ResponseEntity<>(shiftService.getShiftsByMonthAndYear(id,month,year), HttpStatus.OK);
+            NurseDto nurse = nurseService.getNurseById(id);
+            ScheduleVersionDto version = scheduleVersionService.getRosterVersion(nurse.getDepartmentId(),
+                    YearMonth.of(Integer.parseInt(year), Integer.parseInt(month)), nurse.getId());
+            if (request.checkNotModified(version.getETag())) {
+                return null;
+            }
+            return ResponseEntity.ok().eTag(version.getETag()).varyBy(HttpHeaders.ACCEPT).body(shiftService.getShiftsByMonthAndYear(id,month,year));
         } catch (Exception e) {
             e.printStackTrace();
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
@@ -78,6 +104,28 @@ public class ShiftController {
         }
     }
 
+    @GetMapping("/validation")
+    @PreAuthorize("hasAuthority('CHARGE')")
+    public ResponseEntity<RosterValidationDto> validateRoster(@RequestParam(value = "month") String month, @RequestParam(value = "year") String year) {
+        try {
+            return new ResponseEntity<>(rosterValidationService.validateRoster(month, year), HttpStatus.OK);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @GetMapping("/{shiftId}/swap-partners")
+    public ResponseEntity<List<SwapPartnerDto>> getSwapPartners(@PathVariable(name = "shiftId") String shiftId,
+                                                                @RequestParam(value="month") String month, @RequestParam(value="year") String year) {
+        try {
+            return new ResponseEntity<>(shiftService.getSwapPartnersByShiftId(shiftId,month,year), HttpStatus.OK);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
     @GetMapping("/{shiftId}/{nurseId}")
     public ResponseEntity<List<ShiftDto>> getAvailableShifts(@PathVariable(name = "shiftId") String shiftId, @PathVariable(name = "nurseId") String nurseId,
                                                              @RequestParam(value="month") String month, @RequestParam(value="year") String year) {
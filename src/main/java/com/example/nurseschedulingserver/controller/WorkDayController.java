@@ -1,13 +1,19 @@
 package com.example.nurseschedulingserver.controller;
 
+import com.example.nurseschedulingserver.dto.workday.WorkDayImportResultDto;
+import com.example.nurseschedulingserver.dto.workday.WorkDayImportRowDto;
 import com.example.nurseschedulingserver.dto.workday.WorkDayRequestDto;
 import com.example.nurseschedulingserver.dto.workday.WorkDayResponseDto;
 import com.example.nurseschedulingserver.service.interfaces.WorkDayService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/workdays")
 @RequiredArgsConstructor
@@ -34,4 +40,28 @@ public class WorkDayController {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
     }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAuthority('CHARGE')")
+    public ResponseEntity<WorkDayImportResultDto> importWorkDays(@RequestParam(name = "month") String month, @RequestParam(name = "year") String year,
+                                                                 @RequestBody List<WorkDayImportRowDto> rows) {
+        try {
+            return new ResponseEntity<>(workDayService.importWorkDays(month, year, rows), HttpStatus.OK);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @PreAuthorize("hasAuthority('CHARGE')")
+    public ResponseEntity<WorkDayImportResultDto> importWorkDaysCsv(@RequestParam(name = "month") String month, @RequestParam(name = "year") String year,
+                                                                    @RequestBody String csv) {
+        try {
+            return new ResponseEntity<>(workDayService.importWorkDaysCsv(month, year, csv), HttpStatus.OK);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
 }
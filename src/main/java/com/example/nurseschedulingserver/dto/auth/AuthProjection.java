@@ -5,6 +5,7 @@ public interface AuthProjection {
     String getId();
     String getFirstName();
     String getLastName();
+    String getDepartmentId();
     String getDepartmentName();
     String getPhoneNumber();
     String getTcKimlikNo();
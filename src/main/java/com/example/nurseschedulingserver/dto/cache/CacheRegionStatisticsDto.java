@@ -0,0 +1,16 @@
+package com.example.nurseschedulingserver.dto.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheRegionStatisticsDto {
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+}
@@ -0,0 +1,26 @@
+package com.example.nurseschedulingserver.dto.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatisticsDto {
+    private boolean statisticsEnabled;
+    private long secondLevelCacheHitCount;
+    private long secondLevelCacheMissCount;
+    private long secondLevelCachePutCount;
+    private long queryCacheHitCount;
+    private long queryCacheMissCount;
+    private long queryCachePutCount;
+    private long queryExecutionCount;
+    private long entityLoadCount;
+    private Map<String, CacheRegionStatisticsDto> regions;
+    private Map<String, CoalescingStatisticsDto> coalescing;
+}
@@ -0,0 +1,15 @@
+package com.example.nurseschedulingserver.dto.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoalescingStatisticsDto {
+    private long executionCount;
+    private long coalescedCount;
+}
@@ -0,0 +1,11 @@
+package com.example.nurseschedulingserver.dto.calendar;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CalendarFeedDto {
+    private final byte[] body;
+    private final String eTag;
+}
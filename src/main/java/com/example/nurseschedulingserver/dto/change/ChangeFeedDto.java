@@ -0,0 +1,21 @@
+package com.example.nurseschedulingserver.dto.change;
+
+import com.example.nurseschedulingserver.dto.shift.ShiftDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ChangeFeedDto {
+    private final String sequence;
+    private final boolean resyncRequired;
+    private final List<ShiftDto> shifts;
+    private final List<String> exchangeShiftRequestIds;
+    private final List<String> offDayIds;
+
+    public static ChangeFeedDto buildForResync(String sequence) {
+        return new ChangeFeedDto(sequence, true, List.of(), List.of(), List.of());
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.nurseschedulingserver.dto.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class DayCoverageDto {
+    private final LocalDate date;
+    private final int[] scheduled;
+    private final int[] required;
+}
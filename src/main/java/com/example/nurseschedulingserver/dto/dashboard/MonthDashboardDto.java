@@ -0,0 +1,18 @@
+package com.example.nurseschedulingserver.dto.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class MonthDashboardDto {
+    private final int month;
+    private final int year;
+    private final int minimumWorkingHours;
+    private final List<NurseSummaryDto> nurses;
+    private final List<DayCoverageDto> days;
+    private final long pendingOffDays;
+    private final long pendingExchangeShiftRequests;
+}
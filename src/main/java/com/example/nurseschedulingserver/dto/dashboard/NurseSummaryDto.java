@@ -0,0 +1,16 @@
+package com.example.nurseschedulingserver.dto.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NurseSummaryDto {
+    private final String nurseId;
+    private final String nurseFirstName;
+    private final String nurseLastName;
+    private final long scheduledHours;
+    private final int dayShifts;
+    private final int nightShifts;
+    private final int fullShifts;
+}
@@ -0,0 +1,16 @@
+package com.example.nurseschedulingserver.dto.export;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ExportStatisticsDto {
+    private final long exportCount;
+    private final long rowCount;
+    private final long byteCount;
+    private final long lastRowCount;
+    private final long lastByteCount;
+    private final long lastDurationMillis;
+    private final long lastRowsPerSecond;
+}
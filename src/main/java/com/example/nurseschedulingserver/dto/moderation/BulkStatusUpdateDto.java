@@ -0,0 +1,13 @@
+package com.example.nurseschedulingserver.dto.moderation;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class BulkStatusUpdateDto {
+    private List<String> ids;
+    private String status;
+}
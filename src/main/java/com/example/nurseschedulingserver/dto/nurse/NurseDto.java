@@ -5,6 +5,7 @@ public interface NurseDto {
     String getId();
     String getFirstName();
     String getLastName();
+    String getDepartmentId();
     String getDepartmentName();
     String getTcKimlikNo();
     String getGender();
@@ -0,0 +1,12 @@
+package com.example.nurseschedulingserver.dto.shift;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CompactNurseDto {
+    private final String id;
+    private final String firstName;
+    private final String lastName;
+}
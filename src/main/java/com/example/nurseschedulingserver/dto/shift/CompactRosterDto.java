@@ -0,0 +1,59 @@
+package com.example.nurseschedulingserver.dto.shift;
+
+import com.example.nurseschedulingserver.enums.ShiftType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * Roster sent as a nurse dictionary plus one {@code [nurseIndex, day, shiftType]} tuple per shift,
+ * where {@code day} counts from {@code from} (the first day of the earliest shift's month) and
+ * {@code shiftType} is the {@link ShiftType} ordinal, or -1 for any other duration.
+ * {@code shiftIds} is parallel to {@code shifts}.
+ */
+@Getter
+@AllArgsConstructor
+public class CompactRosterDto {
+    private static final long HOUR_MILLIS = 60 * 60 * 1000;
+
+    private final LocalDate from;
+    private final List<CompactNurseDto> nurses;
+    private final List<String> shiftIds;
+    private final int[][] shifts;
+
+    public static CompactRosterDto of(List<ShiftDto> shiftDtos) {
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate from = null;
+        LocalDate[] dates = new LocalDate[shiftDtos.size()];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = shiftDtos.get(i).getStartDate().toInstant().atZone(zone).toLocalDate();
+            if (from == null || dates[i].isBefore(from)) {
+                from = dates[i];
+            }
+        }
+        if (from != null) {
+            from = from.withDayOfMonth(1);
+        }
+
+        Map<String, Integer> nurseIndexes = new HashMap<>();
+        List<CompactNurseDto> nurses = new ArrayList<>();
+        List<String> shiftIds = new ArrayList<>(dates.length);
+        int[][] shifts = new int[dates.length][];
+        for (int i = 0; i < dates.length; i++) {
+            ShiftDto shift = shiftDtos.get(i);
+            Integer nurseIndex = nurseIndexes.get(shift.getNurseId());
+            if (nurseIndex == null) {
+                nurseIndex = nurses.size();
+                nurseIndexes.put(shift.getNurseId(), nurseIndex);
+                nurses.add(new CompactNurseDto(shift.getNurseId(), shift.getNurseFirstName(), shift.getNurseLastName()));
+            }
+            ShiftType shiftType = ShiftType.fromDurationHours((shift.getEndDate().getTime() - shift.getStartDate().getTime()) / HOUR_MILLIS);
+            shiftIds.add(shift.getId());
+            shifts[i] = new int[]{nurseIndex, (int) (dates[i].toEpochDay() - from.toEpochDay()), shiftType == null ? -1 : shiftType.ordinal()};
+        }
+        return new CompactRosterDto(from, nurses, shiftIds, shifts);
+    }
+}
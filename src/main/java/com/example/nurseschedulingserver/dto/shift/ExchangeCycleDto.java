@@ -0,0 +1,16 @@
+package com.example.nurseschedulingserver.dto.shift;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExchangeCycleDto {
+    private List<String> requestIds;
+}
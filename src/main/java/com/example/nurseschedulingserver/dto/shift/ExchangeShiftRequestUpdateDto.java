@@ -0,0 +1,20 @@
+package com.example.nurseschedulingserver.dto.shift;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExchangeShiftRequestUpdateDto {
+    private String id;
+    private String status;
+    private String errorMessage;
+
+    public static ExchangeShiftRequestUpdateDto buildForError(String id, String errorMessage) {
+        return new ExchangeShiftRequestUpdateDto(id, null, errorMessage);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.nurseschedulingserver.dto.shift;
+
+public interface PendingExchangeDto {
+    String getId();
+    String getRequesterShiftId();
+    String getRequesterNurseId();
+    String getRequestedShiftId();
+    String getRequestedNurseId();
+}
@@ -0,0 +1,17 @@
+package com.example.nurseschedulingserver.dto.shift;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+@Getter
+@AllArgsConstructor
+public class RosterShiftDto implements ShiftDto {
+    private final String id;
+    private final Date startDate;
+    private final Date endDate;
+    private final String nurseId;
+    private final String nurseFirstName;
+    private final String nurseLastName;
+}
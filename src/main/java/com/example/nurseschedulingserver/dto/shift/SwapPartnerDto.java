@@ -0,0 +1,15 @@
+package com.example.nurseschedulingserver.dto.shift;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class SwapPartnerDto {
+    private final String nurseId;
+    private final String nurseFirstName;
+    private final String nurseLastName;
+    private final List<ShiftDto> shifts;
+}
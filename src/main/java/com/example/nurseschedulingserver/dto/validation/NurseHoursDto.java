@@ -0,0 +1,14 @@
+package com.example.nurseschedulingserver.dto.validation;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NurseHoursDto {
+    private final String nurseId;
+    private final String nurseFirstName;
+    private final String nurseLastName;
+    private final long scheduledHours;
+    private final int minimumWorkingHours;
+}
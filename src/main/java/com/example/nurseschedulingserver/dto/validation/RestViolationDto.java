@@ -0,0 +1,18 @@
+package com.example.nurseschedulingserver.dto.validation;
+
+import com.example.nurseschedulingserver.enums.RestViolationType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class RestViolationDto {
+    private final String nurseId;
+    private final String nurseFirstName;
+    private final String nurseLastName;
+    private final String shiftId;
+    private final LocalDate date;
+    private final RestViolationType type;
+}
@@ -0,0 +1,20 @@
+package com.example.nurseschedulingserver.dto.validation;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class RosterValidationDto {
+    private final int month;
+    private final int year;
+    private final List<UnderstaffedShiftDto> understaffedShifts;
+    private final List<RestViolationDto> restViolations;
+    private final List<NurseHoursDto> nursesUnderMinimumHours;
+
+    public boolean isValid() {
+        return understaffedShifts.isEmpty() && restViolations.isEmpty() && nursesUnderMinimumHours.isEmpty();
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.nurseschedulingserver.dto.validation;
+
+import com.example.nurseschedulingserver.enums.ShiftType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class UnderstaffedShiftDto {
+    private final LocalDate date;
+    private final ShiftType shiftType;
+    private final int required;
+    private final int scheduled;
+}
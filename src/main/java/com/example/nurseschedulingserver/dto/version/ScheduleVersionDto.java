@@ -0,0 +1,10 @@
+package com.example.nurseschedulingserver.dto.version;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ScheduleVersionDto {
+    private final String eTag;
+}
@@ -0,0 +1,6 @@
+package com.example.nurseschedulingserver.dto.workday;
+
+public interface WorkDayAvailabilityDto {
+    String getNurseId();
+    Integer getDays();
+}
@@ -0,0 +1,12 @@
+package com.example.nurseschedulingserver.dto.workday;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class WorkDayImportErrorDto {
+    private final int row;
+    private final String nurse;
+    private final String message;
+}
@@ -0,0 +1,16 @@
+package com.example.nurseschedulingserver.dto.workday;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class WorkDayImportResultDto {
+    private final int importedCount;
+    private final int failedCount;
+    private final List<WorkDayImportErrorDto> errors;
+    private final long durationMillis;
+    private final long rowsPerSecond;
+}
@@ -0,0 +1,17 @@
+package com.example.nurseschedulingserver.dto.workday;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkDayImportRowDto {
+    private String nurse;
+    private List<Integer> days;
+}
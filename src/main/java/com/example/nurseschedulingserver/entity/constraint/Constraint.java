@@ -3,12 +3,16 @@ package com.example.nurseschedulingserver.entity.constraint;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.UuidGenerator;
 
 import java.util.List;
 
 @Table(name = "constraints")
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 public class Constraint {
@@ -18,6 +22,7 @@ public class Constraint {
     @Column(unique = true)
     private String departmentId;
     @ElementCollection(targetClass = Integer.class, fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<Integer> minimumNursesForEachShift;
 
 }
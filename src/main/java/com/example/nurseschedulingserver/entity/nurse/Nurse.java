@@ -6,14 +6,18 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.UuidGenerator;
 
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "nurses")
+@Table(name = "nurses", indexes = @Index(columnList = "departmentId"))
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Nurse {
 
     @Id
@@ -30,6 +34,8 @@ public class Nurse {
     private Role role;
     private String gender;
     private String birthDate;
+    // Granted by an administrator on top of the role; lets the nurse export every department's shifts.
+    private Boolean exportAllDepartments;
 
 
 }
@@ -8,16 +8,19 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.UuidGenerator;
 
+import java.time.LocalDate;
+
 @Getter
 @Setter
-@Table(name = "off_days")
+@Table(name = "off_days", indexes = @Index(columnList = "status, departmentId, date, id"))
 @Entity
 public class OffDay {
     @Id
     @UuidGenerator
     private String id;
-    private String date;
+    private LocalDate date;
     private String nurseId;
+    private String departmentId;
     @Enumerated(EnumType.STRING)
     private RequestStatus status;
     @CreationTimestamp
@@ -0,0 +1,30 @@
+package com.example.nurseschedulingserver.entity.outbox;
+
+import com.example.nurseschedulingserver.enums.ChangeType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.util.Date;
+
+@Getter
+@Setter
+@Table(name = "outbox_events")
+@Entity
+public class OutboxEvent {
+    // A sequence rather than IDENTITY so inserts can be JDBC-batched; one value per row keeps ids in insert order across replicas.
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 1)
+    private Long id;
+    private String departmentId;
+    @Enumerated(EnumType.STRING)
+    private ChangeType type;
+    @Column(columnDefinition = "TEXT")
+    private String ids;
+    @Column(columnDefinition = "TEXT")
+    private String nurseIds;
+    @CreationTimestamp
+    private Date createdAt;
+}
@@ -10,10 +10,12 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.UuidGenerator;
 
+import java.util.Date;
+
 @Getter
 @Setter
 @Entity
-@Table(name = "exchange_shift_request")
+@Table(name = "exchange_shift_request", indexes = @Index(columnList = "requesterShiftNurseId, status, requesterShiftStartDate, id"))
 @NoArgsConstructor
 @AllArgsConstructor
 public class ExchangeShiftRequest {
@@ -22,6 +24,14 @@ public class ExchangeShiftRequest {
     private String id;
     private String requesterShiftId;
     private String requestedShiftId;
+    private String requesterShiftNurseId;
+    private String requesterShiftNurseName;
+    private Date requesterShiftStartDate;
+    private Date requesterShiftEndDate;
+    private String requestedShiftNurseId;
+    private String requestedShiftNurseName;
+    private Date requestedShiftStartDate;
+    private Date requestedShiftEndDate;
     @Enumerated(EnumType.STRING)
     private RequestStatus status;
     @CreationTimestamp
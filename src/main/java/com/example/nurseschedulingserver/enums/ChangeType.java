@@ -0,0 +1,7 @@
+package com.example.nurseschedulingserver.enums;
+
+public enum ChangeType {
+    SHIFT,
+    EXCHANGE_SHIFT_REQUEST,
+    OFF_DAY
+}
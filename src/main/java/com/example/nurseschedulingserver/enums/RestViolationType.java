@@ -0,0 +1,7 @@
+package com.example.nurseschedulingserver.enums;
+
+public enum RestViolationType {
+    DOUBLE_SHIFT,
+    NO_REST_AFTER_NIGHT,
+    NO_REST_AFTER_FULL
+}
@@ -0,0 +1,32 @@
+package com.example.nurseschedulingserver.enums;
+
+public enum ShiftType {
+    DAY(8, 8),
+    NIGHT(16, 16),
+    FULL(8, 24);
+
+    private final int startHour;
+    private final int durationHours;
+
+    ShiftType(int startHour, int durationHours) {
+        this.startHour = startHour;
+        this.durationHours = durationHours;
+    }
+
+    public int getStartHour() {
+        return startHour;
+    }
+
+    public int getDurationHours() {
+        return durationHours;
+    }
+
+    public static ShiftType fromDurationHours(long durationHours) {
+        for (ShiftType shiftType : values()) {
+            if (shiftType.durationHours == durationHours) {
+                return shiftType;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.nurseschedulingserver.event;
+
+import com.example.nurseschedulingserver.enums.ChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class OutboxMessageEvent {
+    private final long id;
+    private final String departmentId;
+    private final ChangeType type;
+    private final List<String> ids;
+    private final List<String> nurseIds;
+    private final Date createdAt;
+}
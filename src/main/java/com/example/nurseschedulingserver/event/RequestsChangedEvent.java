@@ -0,0 +1,16 @@
+package com.example.nurseschedulingserver.event;
+
+import com.example.nurseschedulingserver.enums.ChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collection;
+
+@Getter
+@AllArgsConstructor
+public class RequestsChangedEvent {
+    private final String departmentId;
+    private final ChangeType type;
+    private final Collection<String> ids;
+    private final Collection<String> nurseIds;
+}
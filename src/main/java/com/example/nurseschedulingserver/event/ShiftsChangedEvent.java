@@ -0,0 +1,27 @@
+package com.example.nurseschedulingserver.event;
+
+import com.example.nurseschedulingserver.entity.shift.Shift;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Getter
+@AllArgsConstructor
+public class ShiftsChangedEvent {
+    private final List<Shift> shifts;
+
+    public Set<YearMonth> getMonths() {
+        Set<YearMonth> months = new HashSet<>();
+        for (Shift shift : shifts) {
+            if (shift.getStartDate() != null) {
+                months.add(YearMonth.from(shift.getStartDate().toInstant().atZone(ZoneId.systemDefault())));
+            }
+        }
+        return months;
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.nurseschedulingserver.notification;
+
+import com.example.nurseschedulingserver.cache.ChangeToken;
+import com.example.nurseschedulingserver.enums.ChangeType;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Pushes change notifications to nurses over server-sent events. Department events only carry
+ * the latest change feed token, so each connection keeps just the newest one; events for a
+ * specific nurse go through a small bounded queue and, once it overflows, are replaced by a
+ * single resync event. Writes happen on a small sender pool, never on the publishing thread,
+ * and idle connections only cost a heartbeat comment every {@link #HEARTBEAT_MILLIS}. A client
+ * that keeps a write blocked for longer than {@link #SEND_TIMEOUT_MILLIS} is dropped, and the
+ * pool gets a replacement thread until that write gives up, so one stalled client cannot hold
+ * back the rest.
+ */
+@Component
+public class ChangeNotifier {
+    static final long TIMEOUT_MILLIS = 30 * 60 * 1000;
+    static final long HEARTBEAT_MILLIS = 25 * 1000;
+    static final int NURSE_EVENT_CAPACITY = 16;
+    static final long SEND_TIMEOUT_MILLIS = 5 * 1000;
+    private static final int SENDER_THREADS = 2;
+    private static final long IDLE = 0;
+    private static final long STALLED = -1;
+
+    private final Map<String, Set<Connection>> departments = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor sender = new ThreadPoolExecutor(SENDER_THREADS, SENDER_THREADS, 0, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+        Thread thread = new Thread(runnable, "change-notifier");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SseEmitter subscribe(String nurseId, String departmentId, ChangeToken token) {
+        return subscribe(new SseEmitter(TIMEOUT_MILLIS), nurseId, departmentId, token);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, String nurseId, String departmentId, ChangeToken token) {
+        Connection connection = new Connection(emitter, nurseId, departmentId);
+        connection.latestToken.set(token);
+        departments.computeIfAbsent(departmentId, key -> ConcurrentHashMap.newKeySet()).add(connection);
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(error -> remove(connection));
+        schedule(connection);
+        return emitter;
+    }
+
+    public void notifyDepartment(String departmentId, ChangeToken token) {
+        for (Connection connection : departments.getOrDefault(departmentId, Set.of())) {
+            connection.latestToken.accumulateAndGet(token, (current, next) -> next.sequence() > current.sequence() ? next : current);
+            schedule(connection);
+        }
+    }
+
+    public void notifyAllDepartments(ChangeToken token) {
+        departments.keySet().forEach(departmentId -> notifyDepartment(departmentId, token));
+    }
+
+    public void notifyNurses(String departmentId, Collection<String> nurseIds, ChangeType type, Collection<String> ids, ChangeToken token) {
+        if (nurseIds.isEmpty()) {
+            return;
+        }
+        NurseEvent event = new NurseEvent(token.toString(), type, List.copyOf(ids));
+        for (Connection connection : departments.getOrDefault(departmentId, Set.of())) {
+            if (nurseIds.contains(connection.nurseId)) {
+                if (!connection.nurseEvents.offer(event)) {
+                    connection.overflowed = true;
+                }
+                schedule(connection);
+            }
+        }
+    }
+
+    @Scheduled(fixedRate = HEARTBEAT_MILLIS)
+    public void sendHeartbeats() {
+        for (Set<Connection> connections : departments.values()) {
+            for (Connection connection : connections) {
+                connection.heartbeat = true;
+                schedule(connection);
+            }
+        }
+    }
+
+    @Scheduled(fixedRate = SEND_TIMEOUT_MILLIS)
+    public void dropStalledConnections() {
+        dropStalledConnections(System.currentTimeMillis());
+    }
+
+    void dropStalledConnections(long now) {
+        for (Set<Connection> connections : departments.values()) {
+            for (Connection connection : connections) {
+                long sendingSince = connection.sendingSince.get();
+                if (sendingSince > IDLE && now - sendingSince > SEND_TIMEOUT_MILLIS && connection.sendingSince.compareAndSet(sendingSince, STALLED)) {
+                    remove(connection);
+                    resizeSender(1);
+                }
+            }
+        }
+    }
+
+    int getConnectionCount() {
+        return departments.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        departments.values().forEach(connections -> connections.forEach(connection -> connection.emitter.complete()));
+    }
+
+    private void schedule(Connection connection) {
+        if (connection.scheduled.compareAndSet(false, true)) {
+            submit(connection);
+        }
+    }
+
+    private void submit(Connection connection) {
+        try {
+            sender.execute(() -> flush(connection));
+        } catch (RejectedExecutionException e) {
+            connection.scheduled.set(false);
+        }
+    }
+
+    private void flush(Connection connection) {
+        // Claiming the send is the only lock: a flush that finds one in progress returns at once
+        // and leaves scheduled set, so the running send resubmits it instead of a blocked client
+        // pinning a second sender thread.
+        long sendingSince = System.currentTimeMillis();
+        if (!connection.sendingSince.compareAndSet(IDLE, sendingSince)) {
+            return;
+        }
+        connection.scheduled.set(false);
+        boolean sent = send(connection);
+        if (!connection.sendingSince.compareAndSet(sendingSince, IDLE)) {
+            resizeSender(-1);
+            if (sent) {
+                connection.emitter.complete();
+            }
+        } else if (connection.scheduled.get()) {
+            submit(connection);
+        }
+    }
+
+    private synchronized void resizeSender(int delta) {
+        if (delta > 0) {
+            sender.setMaximumPoolSize(sender.getMaximumPoolSize() + delta);
+            sender.setCorePoolSize(sender.getCorePoolSize() + delta);
+        } else {
+            sender.setCorePoolSize(sender.getCorePoolSize() + delta);
+            sender.setMaximumPoolSize(sender.getMaximumPoolSize() + delta);
+        }
+    }
+
+    private boolean send(Connection connection) {
+        try {
+            if (connection.overflowed) {
+                connection.overflowed = false;
+                connection.nurseEvents.clear();
+                connection.emitter.send(SseEmitter.event().name("resync").data(connection.latestToken.get().toString()));
+            }
+            NurseEvent event;
+            while ((event = connection.nurseEvents.poll()) != null) {
+                connection.emitter.send(SseEmitter.event().id(event.sequence()).name("my-change").data(event));
+            }
+            ChangeToken token = connection.latestToken.get();
+            if (token != connection.sentToken) {
+                connection.sentToken = token;
+                connection.emitter.send(SseEmitter.event().id(token.toString()).name("change").data(token.toString()));
+            } else if (connection.heartbeat) {
+                connection.emitter.send(SseEmitter.event().comment("heartbeat"));
+            }
+            connection.heartbeat = false;
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            remove(connection);
+            connection.emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void remove(Connection connection) {
+        Set<Connection> connections = departments.get(connection.departmentId);
+        if (connections != null) {
+            connections.remove(connection);
+        }
+    }
+
+    public record NurseEvent(String sequence, ChangeType type, List<String> ids) {
+    }
+
+    private static class Connection {
+        private final SseEmitter emitter;
+        private final String nurseId;
+        private final String departmentId;
+        private final AtomicReference<ChangeToken> latestToken = new AtomicReference<>();
+        private ChangeToken sentToken;
+        private final BlockingQueue<NurseEvent> nurseEvents = new ArrayBlockingQueue<>(NURSE_EVENT_CAPACITY);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        // IDLE, STALLED, or when the send in progress started.
+        private final AtomicLong sendingSince = new AtomicLong(IDLE);
+        private volatile boolean overflowed;
+        private volatile boolean heartbeat;
+
+        private Connection(SseEmitter emitter, String nurseId, String departmentId) {
+            this.emitter = emitter;
+            this.nurseId = nurseId;
+            this.departmentId = departmentId;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.nurseschedulingserver.outbox;
+
+import com.example.nurseschedulingserver.entity.outbox.OutboxEvent;
+import com.example.nurseschedulingserver.event.OutboxMessageEvent;
+import com.example.nurseschedulingserver.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * Drains the outbox in id order and publishes each row as an {@link OutboxMessageEvent}.
+ * Rows are deleted only after every listener returned, so delivery is at least once. When a
+ * listener fails, the department's later rows wait for the next run so they are never
+ * delivered out of order; other departments carry on. An advisory lock keeps a single
+ * replica draining at a time; {@code InvalidationBus} relays what it delivers to the others.
+ * <p>
+ * Ids come from a sequence when a row is inserted, not when its transaction commits, so two
+ * transactions writing the same department at once can commit in the opposite order. The
+ * later-committed row with the lower id is then delivered after the one with the higher id.
+ * Listeners only record which shifts changed, so that order does not matter to them.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxDispatcher {
+    static final int BATCH_SIZE = 200;
+    private static final long LOCK_KEY = 0x6f7574626f78L;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelay = 1000)
+    public void dispatch() {
+        Integer dispatched;
+        do {
+            dispatched = transactionTemplate.execute(status -> outboxEventRepository.tryLock(LOCK_KEY) ? drain() : 0);
+        } while (dispatched != null && dispatched == BATCH_SIZE);
+    }
+
+    int drain() {
+        List<OutboxEvent> batch = outboxEventRepository.findBatch(BATCH_SIZE);
+        Set<String> blockedDepartments = new HashSet<>();
+        List<Long> delivered = new ArrayList<>();
+        for (OutboxEvent outboxEvent : batch) {
+            if (blockedDepartments.contains(outboxEvent.getDepartmentId())) {
+                continue;
+            }
+            try {
+                eventPublisher.publishEvent(toMessage(outboxEvent));
+                delivered.add(outboxEvent.getId());
+            } catch (Exception e) {
+                e.printStackTrace();
+                blockedDepartments.add(outboxEvent.getDepartmentId());
+            }
+        }
+        if (!delivered.isEmpty()) {
+            outboxEventRepository.deleteByIdIn(delivered);
+        }
+        return delivered.size();
+    }
+
+    private static OutboxMessageEvent toMessage(OutboxEvent outboxEvent) {
+        return new OutboxMessageEvent(outboxEvent.getId(), outboxEvent.getDepartmentId(), outboxEvent.getType(),
+                split(outboxEvent.getIds()), split(outboxEvent.getNurseIds()), outboxEvent.getCreatedAt());
+    }
+
+    private static List<String> split(String value) {
+        return value == null || value.isEmpty() ? List.of() : List.of(value.split(OutboxWriter.SEPARATOR));
+    }
+}
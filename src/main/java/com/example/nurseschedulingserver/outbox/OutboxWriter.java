@@ -0,0 +1,48 @@
+package com.example.nurseschedulingserver.outbox;
+
+import com.example.nurseschedulingserver.entity.outbox.OutboxEvent;
+import com.example.nurseschedulingserver.entity.shift.Shift;
+import com.example.nurseschedulingserver.enums.ChangeType;
+import com.example.nurseschedulingserver.event.ShiftsChangedEvent;
+import com.example.nurseschedulingserver.repository.OutboxEventRepository;
+import com.example.nurseschedulingserver.service.interfaces.NurseService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Records shift changes in the outbox table. It listens synchronously, so the rows are written
+ * in the same transaction as the shifts and are only visible to the dispatcher once it commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+    static final String SEPARATOR = ",";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final NurseService nurseService;
+
+    @EventListener
+    public void onShiftsChanged(ShiftsChangedEvent event) {
+        Map<String, String> nurseDepartments = new HashMap<>();
+        Map<String, List<String>> shiftIds = new LinkedHashMap<>();
+        Map<String, Set<String>> nurseIds = new HashMap<>();
+        for (Shift shift : event.getShifts()) {
+            String departmentId = nurseDepartments.computeIfAbsent(shift.getNurseId(), nurseId -> nurseService.getNurseById(nurseId).getDepartmentId());
+            shiftIds.computeIfAbsent(departmentId, key -> new ArrayList<>()).add(shift.getId());
+            nurseIds.computeIfAbsent(departmentId, key -> new LinkedHashSet<>()).add(shift.getNurseId());
+        }
+        List<OutboxEvent> outboxEvents = new ArrayList<>();
+        shiftIds.forEach((departmentId, ids) -> {
+            OutboxEvent outboxEvent = new OutboxEvent();
+            outboxEvent.setDepartmentId(departmentId);
+            outboxEvent.setType(ChangeType.SHIFT);
+            outboxEvent.setIds(String.join(SEPARATOR, ids));
+            outboxEvent.setNurseIds(String.join(SEPARATOR, nurseIds.get(departmentId)));
+            outboxEvents.add(outboxEvent);
+        });
+        outboxEventRepository.saveAll(outboxEvents);
+    }
+}
@@ -1,12 +1,18 @@
 package com.example.nurseschedulingserver.repository;
 
 import com.example.nurseschedulingserver.entity.constraint.Constraint;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
 @Repository
 public interface ConstraintRepository extends JpaRepository<Constraint, String> {
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = "constraint-queries")})
     Optional<Constraint> findByDepartmentId(String departmentId);
 }
@@ -1,42 +1,137 @@
 package com.example.nurseschedulingserver.repository;
 
 import com.example.nurseschedulingserver.dto.shift.ExchangeShiftRequestDto;
+import com.example.nurseschedulingserver.dto.shift.PendingExchangeDto;
 import com.example.nurseschedulingserver.entity.shift.ExchangeShiftRequest;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
 @Repository
 public interface ExchangeShiftRequestRepository extends JpaRepository<ExchangeShiftRequest, String> {
-    @Query("SELECT e.id as id," +
-            "s1.id as requesterShiftId," +
-            "s2.id as requestedShiftId," +
-            "CONCAT(n2.firstName,' ',n2.lastName) as requesterFullName," +
-            "CONCAT(n1.firstName,' ',n1.lastName)  as requestedFullName," +
-            "s1.startDate as requesterShiftStartDate," +
-            "s1.endDate as requesterShiftEndDate," +
-            "s2.startDate as requestedShiftStartDate," +
-            "s2.endDate as requestedShiftEndDate," +
-            "e.status as status " +
-            "FROM ExchangeShiftRequest e " +
-            "INNER JOIN Shift s1 " +
-            "ON s1.id = e.requesterShiftId " +
-            "INNER JOIN Shift s2 " +
-            "ON s2.id = e.requestedShiftId " +
-            "INNER JOIN Nurse n1 " +
-            "ON n1.id = s1.nurseId " +
-            "INNER JOIN Nurse n2 " +
-            "ON n2.id = s2.nurseId " +
-            "WHERE s1.nurseId= ?1 " +
-            "AND e.status = 'PENDING' " +
-            "AND MONTH(s1.startDate) = ?2 " +
-            "AND YEAR(s1.startDate) = ?3 " +
-            "AND MONTH(s2.startDate) = ?2 " +
-            "AND YEAR(s2.startDate) = ?3")
-    List<ExchangeShiftRequestDto> findAllByRequestedShiftId(String requestedShiftId,int month,int year);
+    @Query(nativeQuery = true,
+            value = "SELECT e.id as id, e.requester_shift_id as requesterShiftId, e.requested_shift_id as requestedShiftId, " +
+                    "e.requested_shift_nurse_name as requesterFullName, e.requester_shift_nurse_name as requestedFullName, " +
+                    "e.requester_shift_start_date as requesterShiftStartDate, e.requester_shift_end_date as requesterShiftEndDate, " +
+                    "e.requested_shift_start_date as requestedShiftStartDate, e.requested_shift_end_date as requestedShiftEndDate, " +
+                    "e.status as status " +
+                    "FROM exchange_shift_request e " +
+                    "WHERE e.requester_shift_nurse_id = :nurseId AND e.status = 'PENDING' " +
+                    "AND e.requester_shift_start_date >= :from AND e.requester_shift_start_date < :to " +
+                    "AND e.requested_shift_start_date >= :from AND e.requested_shift_start_date < :to " +
+                    "ORDER BY e.requester_shift_start_date, e.id " +
+                    "LIMIT :size")
+    List<ExchangeShiftRequestDto> findInbox(String nurseId, Date from, Date to, int size);
+
+    @Query(nativeQuery = true,
+            value = "SELECT e.id as id, e.requester_shift_id as requesterShiftId, e.requested_shift_id as requestedShiftId, " +
+                    "e.requested_shift_nurse_name as requesterFullName, e.requester_shift_nurse_name as requestedFullName, " +
+                    "e.requester_shift_start_date as requesterShiftStartDate, e.requester_shift_end_date as requesterShiftEndDate, " +
+                    "e.requested_shift_start_date as requestedShiftStartDate, e.requested_shift_end_date as requestedShiftEndDate, " +
+                    "e.status as status " +
+                    "FROM exchange_shift_request e " +
+                    "WHERE e.requester_shift_nurse_id = :nurseId AND e.status = 'PENDING' " +
+                    "AND e.requester_shift_start_date >= :from AND e.requester_shift_start_date < :to " +
+                    "AND e.requested_shift_start_date >= :from AND e.requested_shift_start_date < :to " +
+                    "AND (e.requester_shift_start_date > :afterStartDate " +
+                    "OR (e.requester_shift_start_date = :afterStartDate AND e.id > :afterId)) " +
+                    "ORDER BY e.requester_shift_start_date, e.id " +
+                    "LIMIT :size")
+    List<ExchangeShiftRequestDto> findInboxAfter(String nurseId, Date from, Date to, Date afterStartDate, String afterId, int size);
+
+    @Query(nativeQuery = true,
+            value = "SELECT COUNT(*) FROM exchange_shift_request e " +
+                    "WHERE e.requester_shift_nurse_id = :nurseId AND e.status = 'PENDING' " +
+                    "AND e.requester_shift_start_date >= :from AND e.requester_shift_start_date < :to " +
+                    "AND e.requested_shift_start_date >= :from AND e.requested_shift_start_date < :to")
+    long countInbox(String nurseId, Date from, Date to);
+
+    @Query(nativeQuery = true,
+            value = "SELECT COUNT(*) FROM exchange_shift_request e " +
+                    "INNER JOIN nurses " +
+                    "ON nurses.id = e.requester_shift_nurse_id " +
+                    "WHERE e.status = 'PENDING' AND nurses.department_id = :departmentId " +
+                    "AND e.requester_shift_start_date >= :from AND e.requester_shift_start_date < :to")
+    long countPendingByDepartmentId(String departmentId, Date from, Date to);
+
+    @Query(nativeQuery = true,
+            value = "SELECT e.id as id, e.requester_shift_id as requesterShiftId, s1.nurse_id as requesterNurseId, " +
+                    "e.requested_shift_id as requestedShiftId, s2.nurse_id as requestedNurseId " +
+                    "FROM exchange_shift_request e " +
+                    "INNER JOIN shifts s1 " +
+                    "ON s1.id = e.requester_shift_id " +
+                    "INNER JOIN shifts s2 " +
+                    "ON s2.id = e.requested_shift_id " +
+                    "INNER JOIN nurses " +
+                    "ON nurses.id = s1.nurse_id " +
+                    "WHERE e.status = 'PENDING' AND nurses.department_id = :departmentId " +
+                    "AND EXTRACT(MONTH FROM s1.start_date) = :month " +
+                    "AND EXTRACT(YEAR FROM s1.start_date) = :year")
+    List<PendingExchangeDto> findPendingByDepartmentIdAndMonthAndYear(String departmentId, int month, int year);
 
     Optional<ExchangeShiftRequest> findByRequesterShiftIdAndRequestedShiftId(String requesterShiftId, String requestedShiftId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "exchange_shift_request"))
+    @Query(nativeQuery = true,
+            value = "UPDATE exchange_shift_request SET status = :status WHERE id = :id AND status = 'PENDING'")
+    int updateStatusIfPending(String id, String status);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "exchange_shift_request"))
+    @Query(nativeQuery = true,
+            value = "UPDATE exchange_shift_request e SET " +
+                    "requester_shift_nurse_id = (SELECT s.nurse_id FROM shifts s WHERE s.id = e.requester_shift_id), " +
+                    "requester_shift_nurse_name = (SELECT CONCAT(n.first_name, ' ', n.last_name) FROM shifts s INNER JOIN nurses n ON n.id = s.nurse_id WHERE s.id = e.requester_shift_id) " +
+                    "WHERE e.status = 'PENDING' AND e.requester_shift_id IN (:shiftIds)")
+    int refreshRequesterShiftNurses(List<String> shiftIds);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "exchange_shift_request"))
+    @Query(nativeQuery = true,
+            value = "UPDATE exchange_shift_request e SET " +
+                    "requested_shift_nurse_id = (SELECT s.nurse_id FROM shifts s WHERE s.id = e.requested_shift_id), " +
+                    "requested_shift_nurse_name = (SELECT CONCAT(n.first_name, ' ', n.last_name) FROM shifts s INNER JOIN nurses n ON n.id = s.nurse_id WHERE s.id = e.requested_shift_id) " +
+                    "WHERE e.status = 'PENDING' AND e.requested_shift_id IN (:shiftIds)")
+    int refreshRequestedShiftNurses(List<String> shiftIds);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "exchange_shift_request"))
+    @Query(nativeQuery = true,
+            value = "UPDATE exchange_shift_request e SET " +
+                    "requester_shift_nurse_id = (SELECT s.nurse_id FROM shifts s WHERE s.id = e.requester_shift_id), " +
+                    "requester_shift_nurse_name = (SELECT CONCAT(n.first_name, ' ', n.last_name) FROM shifts s INNER JOIN nurses n ON n.id = s.nurse_id WHERE s.id = e.requester_shift_id), " +
+                    "requester_shift_start_date = (SELECT s.start_date FROM shifts s WHERE s.id = e.requester_shift_id), " +
+                    "requester_shift_end_date = (SELECT s.end_date FROM shifts s WHERE s.id = e.requester_shift_id), " +
+                    "requested_shift_nurse_id = (SELECT s.nurse_id FROM shifts s WHERE s.id = e.requested_shift_id), " +
+                    "requested_shift_nurse_name = (SELECT CONCAT(n.first_name, ' ', n.last_name) FROM shifts s INNER JOIN nurses n ON n.id = s.nurse_id WHERE s.id = e.requested_shift_id), " +
+                    "requested_shift_start_date = (SELECT s.start_date FROM shifts s WHERE s.id = e.requested_shift_id), " +
+                    "requested_shift_end_date = (SELECT s.end_date FROM shifts s WHERE s.id = e.requested_shift_id) " +
+                    "WHERE e.requester_shift_nurse_id IS NULL")
+    int backfillInbox();
+
+    @Query("SELECT e FROM ExchangeShiftRequest e WHERE e.id IN :ids " +
+            "AND e.requesterShiftId IN (SELECT s.id FROM Shift s, Nurse n WHERE n.id = s.nurseId AND n.departmentId = :departmentId) " +
+            "AND e.requestedShiftId IN (SELECT s.id FROM Shift s, Nurse n WHERE n.id = s.nurseId AND n.departmentId = :departmentId)")
+    List<ExchangeShiftRequest> findAllByIdInAndDepartmentId(Collection<String> ids, String departmentId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "exchange_shift_request"))
+    @Query(nativeQuery = true,
+            value = "UPDATE exchange_shift_request SET status = :status WHERE id IN (:ids) AND status = 'PENDING'")
+    int updateStatusesIfPending(Collection<String> ids, String status);
 }
@@ -2,21 +2,66 @@ package com.example.nurseschedulingserver.repository;
 
 import com.example.nurseschedulingserver.dto.offday.OffDayResponseDto;
 import com.example.nurseschedulingserver.entity.offday.OffDay;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.example.nurseschedulingserver.enums.RequestStatus;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
 
 @Repository
 public interface OffDayRepository extends JpaRepository<OffDay, String> {
 
     @Query(nativeQuery = true,
             value =
-                    "SELECT off_days.id as id, off_days.date as date, nurses.first_name || ' ' || nurses.last_name as nurseName, " +
+                    "SELECT off_days.id as id, TO_CHAR(off_days.date, 'DD.MM.YYYY') as date, nurses.first_name || ' ' || nurses.last_name as nurseName, " +
+                            "off_days.nurse_id as nurseId, off_days.status as status, nurses.gender as gender " +
+                            "FROM off_days " +
+                            "INNER JOIN nurses " +
+                            "ON off_days.nurse_id = nurses.id WHERE off_days.status = :status AND off_days.department_id = :departmentId " +
+                            "ORDER BY off_days.date DESC, off_days.id DESC LIMIT :size")
+    List<OffDayResponseDto> findAllByStatus(String status, String departmentId, int size);
+
+    @Query(nativeQuery = true,
+            value =
+                    "SELECT off_days.id as id, TO_CHAR(off_days.date, 'DD.MM.YYYY') as date, nurses.first_name || ' ' || nurses.last_name as nurseName, " +
                             "off_days.nurse_id as nurseId, off_days.status as status, nurses.gender as gender " +
                             "FROM off_days " +
                             "INNER JOIN nurses " +
-                            "ON off_days.nurse_id = nurses.id INNER JOIN departments d on nurses.department_id = d.id WHERE off_days.status = ?1 AND d.name=?2 ORDER BY off_days.date DESC")
-    Page<OffDayResponseDto> findAllWithinPageAndStatus(String status,String departmentName,Pageable pageable);
+                            "ON off_days.nurse_id = nurses.id WHERE off_days.status = :status AND off_days.department_id = :departmentId " +
+                            "AND (off_days.date < :afterDate OR (off_days.date = :afterDate AND off_days.id < :afterId)) " +
+                            "ORDER BY off_days.date DESC, off_days.id DESC LIMIT :size")
+    List<OffDayResponseDto> findAllByStatusAfter(String status, String departmentId, LocalDate afterDate, String afterId, int size);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "off_days"))
+    @Query(nativeQuery = true,
+            value = "UPDATE off_days SET department_id = (SELECT nurses.department_id FROM nurses WHERE nurses.id = off_days.nurse_id) " +
+                    "WHERE department_id IS NULL")
+    int backfillDepartmentIds();
+
+    @Query("SELECT o.id FROM OffDay o WHERE o.id IN :ids AND o.departmentId = :departmentId")
+    List<String> findIdsByIdInAndDepartmentId(Collection<String> ids, String departmentId);
+
+    @Query("SELECT DISTINCT o.nurseId FROM OffDay o WHERE o.id IN :ids")
+    List<String> findNurseIdsByIdIn(Collection<String> ids);
+
+    @Query("SELECT o.nurseId FROM OffDay o WHERE o.departmentId = :departmentId AND o.date = :date AND o.status = :status")
+    List<String> findNurseIdsByDepartmentIdAndDateAndStatus(String departmentId, LocalDate date, RequestStatus status);
+
+    long countByDepartmentIdAndStatusAndDateBetween(String departmentId, RequestStatus status, LocalDate from, LocalDate to);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "off_days"))
+    @Query(nativeQuery = true, value = "UPDATE off_days SET status = :status WHERE id IN (:ids)")
+    int updateStatuses(Collection<String> ids, String status);
 }
@@ -0,0 +1,24 @@
+package com.example.nurseschedulingserver.repository;
+
+import com.example.nurseschedulingserver.entity.outbox.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query(nativeQuery = true, value = "SELECT pg_try_advisory_xact_lock(:key)")
+    boolean tryLock(long key);
+
+    @Query(nativeQuery = true, value = "SELECT * FROM outbox_events ORDER BY id LIMIT :size")
+    List<OutboxEvent> findBatch(int size);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent o WHERE o.id IN :ids")
+    int deleteByIdIn(Collection<Long> ids);
+}
@@ -0,0 +1,54 @@
+package com.example.nurseschedulingserver.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+/**
+ * Reads shifts through a server-side cursor, for one department or for all of them. Postgres only honours the
+ * fetch size inside a transaction, so callers must hold one for the duration of the read.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ShiftExportRepository {
+    private static final int FETCH_SIZE = 1000;
+    private static final String SELECT =
+            "SELECT shifts.id, nurses.department_id, departments.name, shifts.nurse_id, nurses.first_name, nurses.last_name, " +
+                    "shifts.start_date, shifts.end_date " +
+                    "FROM shifts " +
+                    "INNER JOIN nurses ON shifts.nurse_id = nurses.id " +
+                    "INNER JOIN departments ON nurses.department_id = departments.id ";
+    private static final String DEPARTMENT_QUERY = SELECT +
+            "WHERE nurses.department_id = ? AND shifts.start_date >= ? AND shifts.start_date < ? " +
+            "ORDER BY shifts.start_date, shifts.id";
+    private static final String ALL_DEPARTMENTS_QUERY = SELECT +
+            "WHERE shifts.start_date >= ? AND shifts.start_date < ? " +
+            "ORDER BY nurses.department_id, shifts.start_date, shifts.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void streamShifts(String departmentId, LocalDate from, LocalDate to, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(DEPARTMENT_QUERY);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setString(1, departmentId);
+            statement.setTimestamp(2, Timestamp.valueOf(from.atStartOfDay()));
+            statement.setTimestamp(3, Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+            return statement;
+        }, handler);
+    }
+
+    public void streamAllShifts(LocalDate from, LocalDate to, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(ALL_DEPARTMENTS_QUERY);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setTimestamp(1, Timestamp.valueOf(from.atStartOfDay()));
+            statement.setTimestamp(2, Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+            return statement;
+        }, handler);
+    }
+}
@@ -2,13 +2,19 @@ package com.example.nurseschedulingserver.repository;
 
 import com.example.nurseschedulingserver.dto.shift.ShiftDto;
 import com.example.nurseschedulingserver.entity.shift.Shift;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
 @Repository
 public interface ShiftRepository extends JpaRepository<Shift, String> {
     @Query(nativeQuery = true ,
@@ -21,6 +27,16 @@ public interface ShiftRepository extends JpaRepository<Shift, String> {
     )
     Optional<ShiftDto> findShiftDtoById(String id);
 
+    @Query(nativeQuery = true ,
+            value = "SELECT shifts.id as id, shifts.start_date as startDate, shifts.end_date as endDate, shifts.nurse_id as nurseId, " +
+                    "nurses.first_name as nurseFirstName, nurses.last_name as nurseLastName " +
+                    "FROM shifts " +
+                    "INNER JOIN nurses " +
+                    "ON shifts.nurse_id = nurses.id " +
+                    "WHERE shifts.id IN (:ids) "
+    )
+    List<ShiftDto> findShiftDtosByIds(Collection<String> ids);
+
 
     @Query(nativeQuery = true ,
             value = "SELECT shifts.id as id, shifts.start_date as startDate, shifts.end_date as endDate, shifts.nurse_id as nurseId, " +
@@ -28,11 +44,10 @@ public interface ShiftRepository extends JpaRepository<Shift, String> {
                     "FROM shifts " +
                     "INNER JOIN nurses " +
                     "ON shifts.nurse_id = nurses.id " +
-                    "INNER JOIN departments d ON d.id = nurses.department_id " +
                     "WHERE EXTRACT(MONTH FROM shifts.start_date) = :month " +
-                    "AND EXTRACT(YEAR FROM shifts.start_date) = :year AND d.name = :departmentName "
+                    "AND EXTRACT(YEAR FROM shifts.start_date) = :year AND nurses.department_id = :departmentId "
     )
-    List<ShiftDto> findAllShiftsByMothAndYear(int month, int year, String departmentName);
+    List<ShiftDto> findAllShiftsByMothAndYear(int month, int year, String departmentId);
 
     @Query(nativeQuery = true,
             value = "SELECT shifts.id as id, shifts.start_date as startDate, shifts.end_date as endDate, shifts.nurse_id as nurseId, " +
@@ -50,10 +65,9 @@ public interface ShiftRepository extends JpaRepository<Shift, String> {
                     "FROM shifts " +
                     "INNER JOIN nurses " +
                     "ON shifts.nurse_id = nurses.id " +
-                    "INNER JOIN departments d on nurses.department_id = d.id " +
-                    "WHERE CAST(shifts.start_date AS DATE) = CAST(?1 AS DATE) AND shifts.nurse_id <> ?2 AND d.name = ?3"
+                    "WHERE CAST(shifts.start_date AS DATE) = CAST(?1 AS DATE) AND nurses.department_id = ?2"
     )
-    List<ShiftDto> findAllShiftsByDate(String date, String nurseId,String departmentName);
+    List<ShiftDto> findAllShiftsByDateAndDepartmentId(String date, String departmentId);
 
     @Query(nativeQuery = true ,
             value = "SELECT shifts.id as id, shifts.start_date as startDate, shifts.end_date as endDate, shifts.nurse_id as nurseId, " +
@@ -61,11 +75,21 @@ public interface ShiftRepository extends JpaRepository<Shift, String> {
                     "FROM shifts " +
                     "INNER JOIN nurses " +
                     "ON shifts.nurse_id = nurses.id " +
-                    "INNER JOIN departments d on nurses.department_id = d.id " +
                     "WHERE EXTRACT(MONTH FROM shifts.start_date) = :month " +
-                    "AND EXTRACT(YEAR FROM shifts.start_date) = :year AND d.name = :departmentName AND shifts.nurse_id = :nurseId"
+                    "AND EXTRACT(YEAR FROM shifts.start_date) = :year AND nurses.department_id = :departmentId AND shifts.nurse_id = :nurseId"
     )
-    List<ShiftDto> findShiftsByNurseIdAndMonthAndYearAndDepartmentName(String nurseId, int month, int year, String departmentName);
+    List<ShiftDto> findShiftsByNurseIdAndMonthAndYearAndDepartmentId(String nurseId, int month, int year, String departmentId);
+
+    @Query(nativeQuery = true ,
+            value = "SELECT shifts.id as id, shifts.start_date as startDate, shifts.end_date as endDate, shifts.nurse_id as nurseId, " +
+                    "nurses.first_name as nurseFirstName, nurses.last_name as nurseLastName " +
+                    "FROM shifts " +
+                    "INNER JOIN nurses " +
+                    "ON shifts.nurse_id = nurses.id " +
+                    "WHERE EXTRACT(MONTH FROM shifts.start_date) = :month " +
+                    "AND EXTRACT(YEAR FROM shifts.start_date) = :year AND nurses.department_id = :departmentId AND shifts.nurse_id IN (:nurseIds)"
+    )
+    List<ShiftDto> findShiftsByNurseIdInAndMonthAndYearAndDepartmentId(Collection<String> nurseIds, int month, int year, String departmentId);
 
     @Query(nativeQuery = true,
             value = "SELECT shifts.id as id, shifts.start_date as startDate, shifts.end_date as endDate, shifts.nurse_id as nurseId, " +
@@ -73,11 +97,20 @@ public interface ShiftRepository extends JpaRepository<Shift, String> {
                     "FROM shifts " +
                     "INNER JOIN nurses " +
                     "ON shifts.nurse_id = nurses.id " +
-                    "INNER JOIN departments d on nurses.department_id = d.id " +
                     "WHERE EXTRACT(MONTH FROM shifts.start_date) = :month " +
                     "AND EXTRACT(YEAR FROM shifts.start_date) = :year " +
-                    "AND d.id = :departmentId " +
+                    "AND nurses.department_id = :departmentId " +
                     "AND EXTRACT(DAY FROM shifts.start_date) = :day"
     )
-    List<ShiftDto> findShiftsByDepartmentNameAndDate(String departmentId, int month,int year, int day);
+    List<ShiftDto> findShiftsByDepartmentIdAndDate(String departmentId, int month,int year, int day);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "shifts"))
+    @Query(nativeQuery = true,
+            value = "UPDATE shifts SET nurse_id = CASE WHEN id = :firstShiftId THEN :secondNurseId ELSE :firstNurseId END, " +
+                    "version = version + 1, updated_at = CURRENT_TIMESTAMP " +
+                    "WHERE (id = :firstShiftId AND nurse_id = :firstNurseId AND version = :firstVersion) " +
+                    "OR (id = :secondShiftId AND nurse_id = :secondNurseId AND version = :secondVersion)"
+    )
+    int swapNurses(String firstShiftId, String firstNurseId, long firstVersion, String secondShiftId, String secondNurseId, long secondVersion);
 }
@@ -0,0 +1,89 @@
+package com.example.nurseschedulingserver.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+
+/**
+ * Batched JDBC writes behind the availability import. Replacing a nurse's month here costs one
+ * statement per batch instead of a lookup and an element-collection rewrite per nurse.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WorkDayImportRepository {
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<String, List<String>> findWorkDayIdsByDepartmentIdAndMonth(String departmentId, YearMonth month) {
+        Map<String, List<String>> workDayIds = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT DISTINCT work_days.nurse_id, work_days.id FROM work_days " +
+                        "INNER JOIN work_day_work_date wdwd ON work_days.id = wdwd.work_day_id " +
+                        "INNER JOIN nurses ON nurses.id = work_days.nurse_id " +
+                        "WHERE nurses.department_id = ? AND wdwd.work_date >= ? AND wdwd.work_date < ?",
+                resultSet -> {
+                    workDayIds.computeIfAbsent(resultSet.getString(1), key -> new ArrayList<>()).add(resultSet.getString(2));
+                },
+                departmentId, start(month), end(month));
+        return workDayIds;
+    }
+
+    public void deleteWorkDatesInMonth(Collection<String> workDayIds, YearMonth month) {
+        Timestamp start = start(month);
+        Timestamp end = end(month);
+        jdbcTemplate.batchUpdate("DELETE FROM work_day_work_date WHERE work_day_id = ? AND work_date >= ? AND work_date < ?",
+                new ArrayList<>(workDayIds), BATCH_SIZE, (statement, workDayId) -> {
+                    statement.setString(1, workDayId);
+                    statement.setTimestamp(2, start);
+                    statement.setTimestamp(3, end);
+                });
+    }
+
+    public void insertWorkDays(Map<String, String> nurseIdsByWorkDayId) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        jdbcTemplate.batchUpdate("INSERT INTO work_days (id, nurse_id, created_at, updated_at) VALUES (?, ?, ?, ?)",
+                new ArrayList<>(nurseIdsByWorkDayId.entrySet()), BATCH_SIZE, (statement, workDay) -> {
+                    statement.setString(1, workDay.getKey());
+                    statement.setString(2, workDay.getValue());
+                    statement.setTimestamp(3, now);
+                    statement.setTimestamp(4, now);
+                });
+    }
+
+    public void touchWorkDays(Collection<String> workDayIds) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        jdbcTemplate.batchUpdate("UPDATE work_days SET updated_at = ? WHERE id = ?",
+                new ArrayList<>(workDayIds), BATCH_SIZE, (statement, workDayId) -> {
+                    statement.setTimestamp(1, now);
+                    statement.setString(2, workDayId);
+                });
+    }
+
+    public void insertWorkDates(Map<String, List<LocalDate>> datesByWorkDayId) {
+        List<Object[]> rows = new ArrayList<>();
+        datesByWorkDayId.forEach((workDayId, dates) -> {
+            for (LocalDate date : dates) {
+                rows.add(new Object[]{workDayId, Timestamp.valueOf(date.atStartOfDay())});
+            }
+        });
+        jdbcTemplate.batchUpdate("INSERT INTO work_day_work_date (work_day_id, work_date) VALUES (?, ?)",
+                rows, BATCH_SIZE, (statement, row) -> {
+                    statement.setString(1, (String) row[0]);
+                    statement.setTimestamp(2, (Timestamp) row[1]);
+                });
+    }
+
+    private static Timestamp start(YearMonth month) {
+        return Timestamp.valueOf(month.atDay(1).atStartOfDay());
+    }
+
+    private static Timestamp end(YearMonth month) {
+        return Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay());
+    }
+}
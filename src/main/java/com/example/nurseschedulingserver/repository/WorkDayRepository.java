@@ -1,5 +1,6 @@
 package com.example.nurseschedulingserver.repository;
 
+import com.example.nurseschedulingserver.dto.workday.WorkDayAvailabilityDto;
 import com.example.nurseschedulingserver.entity.workday.WorkDay;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -20,10 +21,15 @@ public interface WorkDayRepository extends JpaRepository<WorkDay, String>{
 
 
     @Query(
-            value = "SELECT work_days.* FROM work_days INNER JOIN work_day_work_date wdwd on work_days.id = wdwd.work_day_id INNER JOIN nurses on nurses.id=work_days.nurse_id WHERE nurses.department_id=:departmentId AND  EXTRACT(MONTH FROM work_date) = :month AND EXTRACT(YEAR FROM work_date) = :year",
+            value = "SELECT work_days.nurse_id as nurseId, " +
+                    "bit_or(1 << (CAST(EXTRACT(DAY FROM wdwd.work_date) AS INTEGER) - 1)) as days " +
+                    "FROM work_days INNER JOIN work_day_work_date wdwd on work_days.id = wdwd.work_day_id " +
+                    "INNER JOIN nurses on nurses.id=work_days.nurse_id " +
+                    "WHERE nurses.department_id=:departmentId AND EXTRACT(MONTH FROM wdwd.work_date) = :month AND EXTRACT(YEAR FROM wdwd.work_date) = :year " +
+                    "GROUP BY work_days.nurse_id",
             nativeQuery = true
     )
-    List<WorkDay> findAllByMonthAndYearAndDepartmentId(int month, int year, String departmentId);
+    List<WorkDayAvailabilityDto> findAvailableDaysByMonthAndYearAndDepartmentId(int month, int year, String departmentId);
 
 
 
@@ -0,0 +1,102 @@
+package com.example.nurseschedulingserver.scheduling;
+
+import com.example.nurseschedulingserver.dto.shift.PendingExchangeDto;
+
+import java.util.*;
+
+/**
+ * Finds multi-party exchanges among pending requests. Request r points at request s when the
+ * shift r asks for is the shift s offers and r's requester can take that shift over once r's own
+ * shift is gone; every cycle of such edges is an exchange in which each requester hands over
+ * their shift and receives the one they asked for.
+ */
+public final class ExchangeCycleFinder {
+
+    private ExchangeCycleFinder() {
+    }
+
+    /**
+     * Returns each cycle of between {@code minLength} and {@code maxLength} requests once, in
+     * exchange order, with every requester appearing at most once per cycle.
+     */
+    public static List<List<PendingExchangeDto>> findCycles(List<PendingExchangeDto> requests, Map<String, ShiftTimeline> nurseShifts,
+                                                            int minLength, int maxLength) {
+        int count = requests.size();
+        ShiftTimeline[] owners = new ShiftTimeline[count];
+        int[] offeredShifts = new int[count];
+        Map<String, List<Integer>> offering = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            PendingExchangeDto request = requests.get(i);
+            owners[i] = nurseShifts.get(request.getRequesterNurseId());
+            offeredShifts[i] = owners[i] == null ? -1 : owners[i].indexOf(request.getRequesterShiftId());
+            if (offeredShifts[i] != -1) {
+                offering.computeIfAbsent(request.getRequesterShiftId(), id -> new ArrayList<>()).add(i);
+            }
+        }
+
+        int[][] edges = new int[count][];
+        for (int r = 0; r < count; r++) {
+            List<Integer> targets = offeredShifts[r] == -1 ? List.of() : offering.getOrDefault(requests.get(r).getRequestedShiftId(), List.of());
+            int[] next = new int[targets.size()];
+            int size = 0;
+            for (int s : targets) {
+                if (!requests.get(s).getRequesterNurseId().equals(requests.get(r).getRequesterNurseId())
+                        && canTakeOver(owners[r], offeredShifts[r], owners[s], offeredShifts[s])) {
+                    next[size++] = s;
+                }
+            }
+            edges[r] = Arrays.copyOf(next, size);
+        }
+
+        List<List<PendingExchangeDto>> cycles = new ArrayList<>();
+        int[] path = new int[maxLength];
+        for (int start = 0; start < count; start++) {
+            path[0] = start;
+            search(requests, edges, path, 1, minLength, maxLength, cycles);
+        }
+        return cycles;
+    }
+
+    /**
+     * Whether {@code taker}'s nurse can work {@code source}'s {@code shift} after giving up their
+     * own {@code givenShift}.
+     */
+    public static boolean canTakeOver(ShiftTimeline taker, int givenShift, ShiftTimeline source, int shift) {
+        return !SwapEngine.conflictsWithAny(taker, source, shift, source.getDuration(shift), givenShift);
+    }
+
+    /**
+     * Whether the owners of {@code firstShift} and {@code secondShift} can trade them.
+     */
+    public static boolean canSwap(ShiftTimeline first, int firstShift, ShiftTimeline second, int secondShift) {
+        return canTakeOver(first, firstShift, second, secondShift) && canTakeOver(second, secondShift, first, firstShift);
+    }
+
+    private static void search(List<PendingExchangeDto> requests, int[][] edges, int[] path, int depth,
+                               int minLength, int maxLength, List<List<PendingExchangeDto>> cycles) {
+        int start = path[0];
+        for (int next : edges[path[depth - 1]]) {
+            if (next == start) {
+                if (depth >= minLength) {
+                    List<PendingExchangeDto> cycle = new ArrayList<>(depth);
+                    for (int i = 0; i < depth; i++) {
+                        cycle.add(requests.get(path[i]));
+                    }
+                    cycles.add(cycle);
+                }
+            } else if (next > start && depth < maxLength && !hasRequester(requests, path, depth, requests.get(next).getRequesterNurseId())) {
+                path[depth] = next;
+                search(requests, edges, path, depth + 1, minLength, maxLength, cycles);
+            }
+        }
+    }
+
+    private static boolean hasRequester(List<PendingExchangeDto> requests, int[] path, int depth, String nurseId) {
+        for (int i = 0; i < depth; i++) {
+            if (requests.get(path[i]).getRequesterNurseId().equals(nurseId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
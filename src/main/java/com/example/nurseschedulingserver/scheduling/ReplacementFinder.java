@@ -0,0 +1,56 @@
+package com.example.nurseschedulingserver.scheduling;
+
+import com.example.nurseschedulingserver.cache.RosterIndex;
+import com.example.nurseschedulingserver.dto.replacement.ReplacementCandidateDto;
+import com.example.nurseschedulingserver.dto.shift.ShiftDto;
+import com.example.nurseschedulingserver.entity.nurse.Nurse;
+import com.example.nurseschedulingserver.enums.Role;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * Ranks the nurses who could take over a shift: the nurse must not be off that day, must be
+ * available on it according to their submitted work days, and must be able to work the shift
+ * under the rest rules. Nurses with the fewest scheduled hours come first.
+ */
+public final class ReplacementFinder {
+
+    private ReplacementFinder() {
+    }
+
+    public static List<ReplacementCandidateDto> findReplacements(RosterIndex roster, ShiftDto shift, List<Nurse> nurses,
+                                                                 Map<String, Integer> availableDays, Set<String> offNurseIds) {
+        ShiftTimeline target = ShiftTimeline.of(List.of(shift));
+        int day = Instant.ofEpochMilli(shift.getStartDate().getTime()).atZone(ZoneId.systemDefault()).getDayOfMonth() - 1;
+        int minimumWorkingHours = WorkingHours.getMinimumWorkingHours(roster.getMonth());
+
+        List<ReplacementCandidateDto> candidates = new ArrayList<>();
+        for (Nurse nurse : nurses) {
+            if (nurse.getRole() != Role.NURSE || nurse.getId().equals(shift.getNurseId()) || offNurseIds.contains(nurse.getId())
+                    || !isAvailableOnDay(availableDays, nurse.getId(), day)) {
+                continue;
+            }
+            int nurseIndex = roster.getNurseIndex(nurse.getId());
+            long scheduledHours = 0;
+            if (nurseIndex != -1) {
+                ShiftTimeline nurseShifts = ShiftTimeline.of(roster.getShiftsByNurse(nurseIndex));
+                if (!ExchangeCycleFinder.canTakeOver(nurseShifts, -1, target, 0)) {
+                    continue;
+                }
+                scheduledHours = roster.getNurseHours(nurseIndex);
+            }
+            candidates.add(new ReplacementCandidateDto(nurse.getId(), nurse.getFirstName(), nurse.getLastName(),
+                    scheduledHours, minimumWorkingHours));
+        }
+        candidates.sort(Comparator.comparingLong(ReplacementCandidateDto::getScheduledHours)
+                .thenComparing(ReplacementCandidateDto::getNurseFirstName, Comparator.nullsLast(Comparator.naturalOrder())));
+        return candidates;
+    }
+
+    private static boolean isAvailableOnDay(Map<String, Integer> availableDays, String nurseId, int day) {
+        Integer days = availableDays.get(nurseId);
+        return days == null || (days & (1 << day)) != 0;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.nurseschedulingserver.scheduling;
+
+import com.example.nurseschedulingserver.cache.RosterIndex;
+import com.example.nurseschedulingserver.dto.validation.NurseHoursDto;
+import com.example.nurseschedulingserver.dto.validation.RestViolationDto;
+import com.example.nurseschedulingserver.dto.validation.RosterValidationDto;
+import com.example.nurseschedulingserver.dto.validation.UnderstaffedShiftDto;
+import com.example.nurseschedulingserver.entity.constraint.Constraint;
+import com.example.nurseschedulingserver.entity.nurse.Nurse;
+import com.example.nurseschedulingserver.enums.RestViolationType;
+import com.example.nurseschedulingserver.enums.Role;
+import com.example.nurseschedulingserver.enums.ShiftType;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks a department-month against the rules the CP model schedules with, in one pass over
+ * the roster's nurse x day matrix: per-day coverage of the {@link Constraint} minimums (day and
+ * night on weekdays, full shifts on weekends), one shift a day with a rest day after a night
+ * shift and two after a full shift (carried over from the previous month), and the monthly
+ * minimum hours for every non-charge nurse.
+ */
+public final class RosterValidator {
+    private RosterValidator() {
+    }
+
+    public static RosterValidationDto validate(RosterIndex roster, RosterIndex previousRoster, Constraint constraint, List<Nurse> nurses) {
+        YearMonth month = roster.getMonth();
+        int days = roster.getDays();
+        List<RestViolationDto> restViolations = new ArrayList<>();
+
+        for (int n = 0; n < roster.getNurseCount(); n++) {
+            int restUntil = -1;
+            RestViolationType restType = null;
+            int previousNurse = previousRoster == null ? -1 : previousRoster.getNurseIndex(roster.getNurseId(n));
+            if (previousNurse != -1) {
+                int previousDays = previousRoster.getDays();
+                for (int d = previousDays - 2; d < previousDays; d++) {
+                    int rest = restDays(previousRoster.getShiftType(previousNurse, d));
+                    if (d - previousDays + rest > restUntil) {
+                        restUntil = d - previousDays + rest;
+                        restType = restViolationType(previousRoster.getShiftType(previousNurse, d));
+                    }
+                }
+            }
+            for (int d = 0; d < days; d++) {
+                int shiftCount = roster.getShiftCount(n, d);
+                if (shiftCount == 0) {
+                    continue;
+                }
+                if (shiftCount > 1) {
+                    restViolations.add(restViolation(roster, n, d, RestViolationType.DOUBLE_SHIFT));
+                }
+                if (d <= restUntil) {
+                    restViolations.add(restViolation(roster, n, d, restType));
+                }
+                int shiftType = roster.getShiftType(n, d);
+                if (d + restDays(shiftType) > restUntil) {
+                    restUntil = d + restDays(shiftType);
+                    restType = restViolationType(shiftType);
+                }
+            }
+        }
+
+        List<UnderstaffedShiftDto> understaffedShifts = new ArrayList<>();
+        if (constraint != null) {
+            List<Integer> minimums = constraint.getMinimumNursesForEachShift();
+            for (int d = 0; d < days; d++) {
+                LocalDate date = month.atDay(d + 1);
+                if (WorkingHours.isWeekend(date)) {
+                    addIfUnderstaffed(understaffedShifts, date, ShiftType.FULL, minimums.get(2), roster);
+                } else {
+                    addIfUnderstaffed(understaffedShifts, date, ShiftType.DAY, minimums.get(0), roster);
+                    addIfUnderstaffed(understaffedShifts, date, ShiftType.NIGHT, minimums.get(1), roster);
+                }
+            }
+        }
+
+        int minimumWorkingHours = WorkingHours.getMinimumWorkingHours(month);
+        List<NurseHoursDto> nursesUnderMinimumHours = new ArrayList<>();
+        for (Nurse nurse : nurses) {
+            if (nurse.getRole() != Role.NURSE) {
+                continue;
+            }
+            int nurseIndex = roster.getNurseIndex(nurse.getId());
+            long scheduledHours = nurseIndex == -1 ? 0 : roster.getNurseHours(nurseIndex);
+            if (scheduledHours < minimumWorkingHours) {
+                nursesUnderMinimumHours.add(new NurseHoursDto(nurse.getId(), nurse.getFirstName(), nurse.getLastName(),
+                        scheduledHours, minimumWorkingHours));
+            }
+        }
+
+        return new RosterValidationDto(month.getMonthValue(), month.getYear(), understaffedShifts, restViolations, nursesUnderMinimumHours);
+    }
+
+    private static int restDays(int shiftType) {
+        if (shiftType == ShiftType.NIGHT.ordinal()) {
+            return 1;
+        }
+        return shiftType == ShiftType.FULL.ordinal() ? 2 : 0;
+    }
+
+    private static RestViolationType restViolationType(int shiftType) {
+        return shiftType == ShiftType.FULL.ordinal() ? RestViolationType.NO_REST_AFTER_FULL : RestViolationType.NO_REST_AFTER_NIGHT;
+    }
+
+    private static RestViolationDto restViolation(RosterIndex roster, int nurseIndex, int day, RestViolationType type) {
+        return new RestViolationDto(roster.getNurseId(nurseIndex), roster.getNurseFirstName(nurseIndex), roster.getNurseLastName(nurseIndex),
+                roster.getShiftId(nurseIndex, day), roster.getMonth().atDay(day + 1), type);
+    }
+
+    private static void addIfUnderstaffed(List<UnderstaffedShiftDto> understaffedShifts, LocalDate date, ShiftType shiftType,
+                                          int required, RosterIndex roster) {
+        int scheduled = roster.getCoverage(date.getDayOfMonth() - 1, shiftType);
+        if (scheduled < required) {
+            understaffedShifts.add(new UnderstaffedShiftDto(date, shiftType, required, scheduled));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.nurseschedulingserver.scheduling;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs a shift exchange in its own transaction and re-runs it from scratch when a concurrent
+ * exchange changed one of its shifts first.
+ */
+@Component
+@RequiredArgsConstructor
+public class ShiftExchangeExecutor {
+    static final int MAX_ATTEMPTS = 5;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public <T> T execute(Supplier<T> exchange) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> exchange.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+}
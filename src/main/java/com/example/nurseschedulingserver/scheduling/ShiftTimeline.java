@@ -0,0 +1,115 @@
+package com.example.nurseschedulingserver.scheduling;
+
+import com.example.nurseschedulingserver.dto.shift.ShiftDto;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * One nurse's shifts flattened into epoch-day and wall-clock integers, with a per-day
+ * occupancy count (days a shift starts or ends on) and a per-day chain of shifts starting
+ * that day, so the swap rules can be answered without formatting or calendar arithmetic.
+ */
+public class ShiftTimeline {
+    private static final long HOUR_MILLIS = 60 * 60 * 1000;
+
+    private final List<ShiftDto> shifts;
+    final int[] startDays;
+    final int[] endDays;
+    final int[] startTimes;
+    final long[] durations;
+    private final int firstDay;
+    private final int[] occupancy;
+    private final int[] firstStartOnDay;
+    private final int[] nextStartOnSameDay;
+
+    private ShiftTimeline(List<ShiftDto> shifts, ZoneId zone) {
+        this.shifts = shifts;
+        int count = shifts.size();
+        startDays = new int[count];
+        endDays = new int[count];
+        startTimes = new int[count];
+        durations = new long[count];
+        int minDay = Integer.MAX_VALUE;
+        int maxDay = Integer.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            ShiftDto shift = shifts.get(i);
+            long start = shift.getStartDate().getTime();
+            long end = shift.getEndDate().getTime();
+            ZonedDateTime startDateTime = Instant.ofEpochMilli(start).atZone(zone);
+            startDays[i] = (int) startDateTime.toLocalDate().toEpochDay();
+            startTimes[i] = (int) (startDateTime.toLocalTime().toNanoOfDay() / 1_000_000);
+            endDays[i] = (int) Instant.ofEpochMilli(end).atZone(zone).toLocalDate().toEpochDay();
+            durations[i] = (end - start) / HOUR_MILLIS;
+            minDay = Math.min(minDay, Math.min(startDays[i], endDays[i]));
+            maxDay = Math.max(maxDay, Math.max(startDays[i], endDays[i]));
+        }
+        firstDay = count == 0 ? 0 : minDay;
+        int days = count == 0 ? 0 : maxDay - minDay + 1;
+        occupancy = new int[days];
+        firstStartOnDay = new int[days];
+        nextStartOnSameDay = new int[count];
+        Arrays.fill(firstStartOnDay, -1);
+        for (int i = count - 1; i >= 0; i--) {
+            occupancy[startDays[i] - firstDay]++;
+            if (endDays[i] != startDays[i]) {
+                occupancy[endDays[i] - firstDay]++;
+            }
+            nextStartOnSameDay[i] = firstStartOnDay[startDays[i] - firstDay];
+            firstStartOnDay[startDays[i] - firstDay] = i;
+        }
+    }
+
+    public static ShiftTimeline of(List<ShiftDto> shifts) {
+        return new ShiftTimeline(shifts, ZoneId.systemDefault());
+    }
+
+    public int size() {
+        return shifts.size();
+    }
+
+    public ShiftDto getShift(int shift) {
+        return shifts.get(shift);
+    }
+
+    public long getDuration(int shift) {
+        return durations[shift];
+    }
+
+    public int indexOf(String shiftId) {
+        for (int i = 0; i < shifts.size(); i++) {
+            if (shifts.get(i).getId().equals(shiftId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    boolean occupies(int day, int excludedShift) {
+        int offset = day - firstDay;
+        if (offset < 0 || offset >= occupancy.length) {
+            return false;
+        }
+        int count = occupancy[offset];
+        if (excludedShift >= 0 && (startDays[excludedShift] == day || endDays[excludedShift] == day)) {
+            count--;
+        }
+        return count > 0;
+    }
+
+    boolean startsAt(int day, int time, int excludedShift) {
+        int offset = day - firstDay;
+        if (offset < 0 || offset >= firstStartOnDay.length) {
+            return false;
+        }
+        for (int i = firstStartOnDay[offset]; i != -1; i = nextStartOnSameDay[i]) {
+            if (i != excludedShift && startTimes[i] == time) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
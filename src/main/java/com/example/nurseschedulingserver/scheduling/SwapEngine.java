@@ -0,0 +1,112 @@
+package com.example.nurseschedulingserver.scheduling;
+
+/**
+ * Rest rules used for shift swaps. A shift conflicts with another when they share a start or
+ * end day, or when the other shift starts at the same wall-clock time one day away around a
+ * 16 hour shift, or one or two days away around a 24 hour shift.
+ */
+public final class SwapEngine {
+
+    private SwapEngine() {
+    }
+
+    /**
+     * Writes into {@code candidates} the indexes of {@code other}'s shifts that can be swapped
+     * for {@code requested}'s {@code requestedShift}, given the rest of the owner's month in
+     * {@code owner}, and returns how many were written. Returns 0 when any of {@code other}'s
+     * shifts conflicts with the requested shift.
+     */
+    public static int findSwapCandidates(ShiftTimeline requested, int requestedShift, ShiftTimeline owner,
+                                         ShiftTimeline other, int[] candidates) {
+        long duration = requested.durations[requestedShift];
+        int count = 0;
+        for (int i = 0; i < other.size(); i++) {
+            if (isConflict(other, i, requested, requestedShift, duration)) {
+                return 0;
+            }
+            if (isAvailableForSwap(other, i, requested, requestedShift, duration)) {
+                candidates[count++] = i;
+            }
+        }
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            if (!conflictsWithAny(owner, other, candidates[i], duration, -1)) {
+                candidates[kept++] = candidates[i];
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Whether {@code source}'s {@code shift} conflicts with any shift in {@code timeline} other
+     * than {@code excludedShift} (pass -1 to check all of them).
+     */
+    public static boolean conflictsWithAny(ShiftTimeline timeline, ShiftTimeline source, int shift, long duration, int excludedShift) {
+        int startDay = source.startDays[shift];
+        int startTime = source.startTimes[shift];
+        if (timeline.occupies(startDay, excludedShift) || timeline.occupies(source.endDays[shift], excludedShift)) {
+            return true;
+        }
+        if (duration == 16) {
+            return timeline.startsAt(startDay - 1, startTime, excludedShift)
+                    || timeline.startsAt(startDay + 1, startTime, excludedShift);
+        }
+        if (duration == 24) {
+            return timeline.startsAt(startDay - 1, startTime, excludedShift)
+                    || timeline.startsAt(startDay - 2, startTime, excludedShift)
+                    || timeline.startsAt(startDay + 1, startTime, excludedShift)
+                    || timeline.startsAt(startDay + 2, startTime, excludedShift);
+        }
+        return false;
+    }
+
+    public static boolean isConflict(ShiftTimeline first, int firstShift, ShiftTimeline second, int secondShift, long duration) {
+        if (sharesDay(first, firstShift, second, secondShift)) {
+            return true;
+        }
+        if (duration == 16) {
+            return startsDaysApart(first, firstShift, second, secondShift, -1)
+                    || startsDaysApart(first, firstShift, second, secondShift, 1);
+        }
+        if (duration == 24) {
+            return startsDaysApart(first, firstShift, second, secondShift, -1)
+                    || startsDaysApart(first, firstShift, second, secondShift, -2)
+                    || startsDaysApart(first, firstShift, second, secondShift, 1)
+                    || startsDaysApart(first, firstShift, second, secondShift, 2);
+        }
+        return false;
+    }
+
+    public static boolean isAvailableForSwap(ShiftTimeline selected, int selectedShift, ShiftTimeline owner, int requestedShift, long duration) {
+        if (sharesDay(selected, selectedShift, owner, requestedShift)) {
+            return false;
+        }
+        long selectedDuration = selected.durations[selectedShift];
+        if (startsDaysApart(owner, requestedShift, selected, selectedShift, -1) && (selectedDuration == 16 || selectedDuration == 24)) {
+            return false;
+        }
+        if (startsDaysApart(owner, requestedShift, selected, selectedShift, -2) && selectedDuration == 24) {
+            return false;
+        }
+        if (duration == 16 && startsDaysApart(owner, requestedShift, selected, selectedShift, 1)) {
+            return false;
+        }
+        if (duration == 24) {
+            return !startsDaysApart(owner, requestedShift, selected, selectedShift, 2)
+                    && !startsDaysApart(owner, requestedShift, selected, selectedShift, 1);
+        }
+        return true;
+    }
+
+    private static boolean sharesDay(ShiftTimeline first, int firstShift, ShiftTimeline second, int secondShift) {
+        int firstStart = first.startDays[firstShift];
+        int firstEnd = first.endDays[firstShift];
+        int secondStart = second.startDays[secondShift];
+        int secondEnd = second.endDays[secondShift];
+        return firstStart == secondStart || firstStart == secondEnd || firstEnd == secondEnd || firstEnd == secondStart;
+    }
+
+    private static boolean startsDaysApart(ShiftTimeline from, int fromShift, ShiftTimeline to, int toShift, int days) {
+        return to.startDays[toShift] == from.startDays[fromShift] + days && to.startTimes[toShift] == from.startTimes[fromShift];
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.nurseschedulingserver.scheduling;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+public final class WorkingHours {
+    private static final int WORKDAY_HOURS = 8;
+
+    private WorkingHours() {
+    }
+
+    public static boolean isWeekend(LocalDate date) {
+        DayOfWeek day = date.getDayOfWeek();
+        return day == DayOfWeek.SUNDAY || day == DayOfWeek.SATURDAY;
+    }
+
+    /**
+     * Eight hours for every weekday of the month.
+     */
+    public static int getMinimumWorkingHours(YearMonth month) {
+        int hours = 0;
+        for (int day = 1; day <= month.lengthOfMonth(); day++) {
+            if (!isWeekend(month.atDay(day))) {
+                hours += WORKDAY_HOURS;
+            }
+        }
+        return hours;
+    }
+}
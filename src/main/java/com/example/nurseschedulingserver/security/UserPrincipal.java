@@ -7,8 +7,11 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 public class UserPrincipal implements UserDetails {
+    public static final String EXPORT_ALL_DEPARTMENTS = "EXPORT_ALL_DEPARTMENTS";
+
     private final Nurse nurse;
 
     public UserPrincipal(Nurse nurse) {
@@ -17,6 +20,9 @@ public class UserPrincipal implements UserDetails {
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
+        if (Boolean.TRUE.equals(nurse.getExportAllDepartments())) {
+            return List.of(new SimpleGrantedAuthority(nurse.getRole().name()), new SimpleGrantedAuthority(EXPORT_ALL_DEPARTMENTS));
+        }
         return Collections.<GrantedAuthority>singletonList(new SimpleGrantedAuthority(nurse.getRole().name()));
     }
 
@@ -5,9 +5,9 @@ import com.example.nurseschedulingserver.entity.constraint.Constraint;
 import com.example.nurseschedulingserver.entity.department.Department;
 import com.example.nurseschedulingserver.entity.nurse.Nurse;
 import com.example.nurseschedulingserver.entity.shift.Shift;
-import com.example.nurseschedulingserver.entity.workday.WorkDay;
 import com.example.nurseschedulingserver.enums.Role;
 import com.example.nurseschedulingserver.repository.ConstraintRepository;
+import com.example.nurseschedulingserver.scheduling.WorkingHours;
 import com.example.nurseschedulingserver.service.interfaces.*;
 import com.google.ortools.Loader;
 import com.google.ortools.sat.*;
@@ -15,11 +15,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.Month;
+import java.time.YearMonth;
 import java.time.ZoneId;
-import java.time.temporal.ChronoField;
 import java.util.*;
 import java.util.stream.IntStream;
 
@@ -56,7 +54,7 @@ public class CPServiceImpl implements CPService {
         for (int i = 0; i < nextMonthDays; i++) {
          Date date = convertDate(nextDate, i);
          LocalDate localDate = date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
-         if(!isWeekend(localDate)){
+         if(!WorkingHours.isWeekend(localDate)){
              Shift shift = new Shift();
              shift.setNurseId(nurse.getId());
              Calendar calendar = Calendar.getInstance();
@@ -88,25 +86,24 @@ public class CPServiceImpl implements CPService {
         final int[] allDays = IntStream.range(0, nextMonthDays).toArray();
         final int[] allShifts = IntStream.range(0, 3).toArray();
         final int solutionLimit = 1;
-        List<WorkDay> workDays = getWorkDayByMonthAndDateAndDepartment(nextDate,constraint.getDepartmentId());
+        Map<String, Integer> availableDays = workDayService.findAvailableDaysByMonthAndYear(nextDate.getMonthValue(), nextDate.getYear(), constraint.getDepartmentId());
         HashMap<String, List<Nurse>> workDaysForNurses = new HashMap<>();
         for (int i = 0; i < nextMonthDays; i++) {
             Date date = convertDate(nextDate, i);
             String dateString = date.toString();
             workDaysForNurses.put(dateString, new ArrayList<>());
             for (Nurse nurse : nurseList) {
-                boolean exists = checkWorkDateExists(date, nurse.getId(),workDays);
-                if (exists) {
+                if (hasSubmittedDay(availableDays, nurse, i)) {
                     workDaysForNurses.get(dateString).add(nurse);
                 }
             }
         }
 
         CpModel model = new CpModel();
-        Literal[][][] shifts = createShiftVariables(nurseList,allNurses, allDays, allShifts, nextDate,model,workDays,workDaysForNurses,constraint,lastDayShifts,secondLastDayShifts);
-        implementConsecutiveShifts(nurseList,allNurses,allDays,shifts,model,nextDate,constraint,workDays,workDaysForNurses,lastDayShifts,secondLastDayShifts);
-        implementMinimumWorkingHours(allNurses,allDays,allShifts,shifts,nurseList,nextDate,model,workDays,workDaysForNurses,constraint,lastDayShifts,secondLastDayShifts);
-        implementNotWorkingShifts(nurseList,allNurses,allDays,allShifts,shifts,model,nextDate,workDays,workDaysForNurses,constraint,lastDayShifts,secondLastDayShifts);
+        Literal[][][] shifts = createShiftVariables(nurseList,allNurses, allDays, allShifts, nextDate,model,availableDays,workDaysForNurses,constraint,lastDayShifts,secondLastDayShifts);
+        implementConsecutiveShifts(nurseList,allNurses,allDays,shifts,model,nextDate,constraint,availableDays,workDaysForNurses,lastDayShifts,secondLastDayShifts);
+        implementMinimumWorkingHours(allNurses,allDays,allShifts,shifts,nurseList,nextDate,model,availableDays,workDaysForNurses,constraint,lastDayShifts,secondLastDayShifts);
+        implementNotWorkingShifts(nurseList,allNurses,allDays,allShifts,shifts,model,nextDate,availableDays,workDaysForNurses,constraint,lastDayShifts,secondLastDayShifts);
 
         CpSolver solver = new CpSolver();
         solver.getParameters().setLinearizationLevel(0);
@@ -204,15 +201,12 @@ public class CPServiceImpl implements CPService {
         return startHours[shiftIndex];
     }
 
-    private boolean isWeekend(LocalDate ld) {
-        DayOfWeek day = DayOfWeek.of(ld.get(ChronoField.DAY_OF_WEEK));
-        return day == DayOfWeek.SUNDAY || day == DayOfWeek.SATURDAY;
+    private boolean hasSubmittedDay(Map<String, Integer> availableDays, Nurse nurse, int day) {
+        Integer days = availableDays.get(nurse.getId());
+        return days != null && (days & (1 << day)) != 0;
     }
-    private List<WorkDay> getWorkDayByMonthAndDateAndDepartment(LocalDate date,String departmentId) {
-        return workDayService.findWorkDayByMonthAndYear(date.getMonthValue(),date.getYear(),departmentId);
-    }
-    private boolean checkWorkDateExists(Date date, String nurseId,List<WorkDay> workDays){
-        return workDays.stream().anyMatch(workDay -> workDay.getWorkDate().contains(date) && workDay.getNurseId().equals(nurseId));
+    private boolean isAvailableOnDay(Map<String, Integer> availableDays, Nurse nurse, int day) {
+        return !availableDays.containsKey(nurse.getId()) || hasSubmittedDay(availableDays, nurse, day);
     }
     private Date convertDate(LocalDate date, int day) {
         return Date.from(date.withDayOfMonth(day + 1).atStartOfDay().atZone(ZoneId.systemDefault()).toInstant());
@@ -220,7 +214,7 @@ public class CPServiceImpl implements CPService {
 
     private boolean checkWorkDayByListSize(List<Nurse> nurses,Date date,Constraint constraint){
         if(nurses != null){
-            if(isWeekend(date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate())){
+            if(WorkingHours.isWeekend(date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate())){
                 return nurses.size() < constraint.getMinimumNursesForEachShift().get(2);
             }
             else{
@@ -229,18 +223,6 @@ public class CPServiceImpl implements CPService {
         }
         return true;
     }
-    private int getMinimumWorkingHours(int year, Month month){
-        int count = 0;
-        LocalDate startDate = LocalDate.of(year,month,1);
-        LocalDate endDate = startDate.plusMonths(1);
-        while(startDate.isBefore(endDate)){
-            if(!isWeekend(startDate)){
-                count+=8;
-            }
-            startDate = startDate.plusDays(1);
-        }
-        return count;
-    }
     private boolean checkPreviousMonthLastDay(List<ShiftDto> shiftDtos, Nurse nurse) {
         return shiftDtos.stream().anyMatch(shiftDto ->
                 shiftDto.getNurseId().equals(nurse.getId()) && getShiftDurationHours(shiftDto) >= 16);
@@ -258,20 +240,19 @@ public class CPServiceImpl implements CPService {
 
 
     private Literal[][][] createShiftVariables(List<Nurse> nurseList,int[] allNurses, int[] allDays, int[] allShifts,
-                                               LocalDate shiftDate,CpModel model,List<WorkDay> workDays,
+                                               LocalDate shiftDate,CpModel model,Map<String, Integer> availableDays,
                                                HashMap<String, List<Nurse>> existsWorKDaysForEachNurse,
                                                Constraint constraint,List<ShiftDto> lastDayShifts,List<ShiftDto> secondLastDayShifts) {
         Literal[][][] shifts = new Literal[allNurses.length][allDays.length][allShifts.length];
         for (int n : allNurses) {
             Nurse nurse = nurseList.get(n);
-            WorkDay workDay = workDays.stream().filter(w -> Objects.equals(w.getNurseId(), nurse.getId())).findFirst().orElse(null);
             for (int d : allDays) {
                 boolean previousMonthLastTwoDayShift = checkPreviousShifts(lastDayShifts, secondLastDayShifts, nurse, d);
                 Date date = convertDate(shiftDate, d);
                 List<Nurse> nurses = existsWorKDaysForEachNurse.get(date.toString());
                 boolean checkWorkDay = checkWorkDayByListSize(nurses,date,constraint);
                 for (int s : allShifts) {
-                    if ((workDay == null || workDay.getWorkDate().contains(date) || checkWorkDay ) && !previousMonthLastTwoDayShift) {
+                    if ((isAvailableOnDay(availableDays, nurse, d) || checkWorkDay) && !previousMonthLastTwoDayShift) {
                         shifts[n][d][s] = model.newBoolVar("shifts_n" + n + "d" + d + "s" + s);
                     }
                 }
@@ -296,21 +277,20 @@ public class CPServiceImpl implements CPService {
 
     private void implementMinimumWorkingHours(int[] allNurses, int[] allDays, int[] allShifts,
                                               Literal[][][] shifts, List<Nurse> nurseList,
-                                              LocalDate shiftDate, CpModel model, List<WorkDay> workDays,
+                                              LocalDate shiftDate, CpModel model, Map<String, Integer> availableDays,
                                               HashMap<String, List<Nurse>> existsWorKDaysForEachNurse,
                                               Constraint constraint,List<ShiftDto> lastDayShifts,List<ShiftDto> secondLastDayShifts ) {
-        int minimumWorkingHours = getMinimumWorkingHours(shiftDate.getYear(),shiftDate.getMonth());
+        int minimumWorkingHours = WorkingHours.getMinimumWorkingHours(YearMonth.from(shiftDate));
         for (int n : allNurses) {
             LinearExprBuilder totalHoursWorked = LinearExpr.newBuilder();
             Nurse nurse = nurseList.get(n);
-            WorkDay workDay = workDays.stream().filter(w -> Objects.equals(w.getNurseId(), nurse.getId())).findFirst().orElse(null);
             for (int d : allDays) {
                 Date date = convertDate(shiftDate, d);
                 List<Nurse> nurses = existsWorKDaysForEachNurse.get(date.toString());
                 boolean previousMonthLastTwoDayShift = checkPreviousShifts(lastDayShifts, secondLastDayShifts, nurse, d);
                 boolean checkWorkDay = checkWorkDayByListSize(nurses,date,constraint);
                 for (int s : allShifts) {
-                    if ((workDay == null || workDay.getWorkDate().contains(date) || checkWorkDay ) && !previousMonthLastTwoDayShift) {
+                    if ((isAvailableOnDay(availableDays, nurse, d) || checkWorkDay) && !previousMonthLastTwoDayShift) {
                         totalHoursWorked.addTerm(shifts[n][d][s], shiftDuration(s));
                     }
                 }
@@ -321,7 +301,7 @@ public class CPServiceImpl implements CPService {
 
     private void implementConsecutiveShifts(List<Nurse> nurseList, int[] allNurses, int[] allDays,
                                             Literal[][][] shifts, CpModel model, LocalDate shiftDate, Constraint constraint,
-                                            List<WorkDay> workDays, HashMap<String, List<Nurse>> existsWorKDaysForEachNurse,
+                                            Map<String, Integer> availableDays, HashMap<String, List<Nurse>> existsWorKDaysForEachNurse,
                                             List<ShiftDto> lastDayShifts,List<ShiftDto> secondLastDayShifts) {
         List<Integer> minimumNursesNeeded = constraint.getMinimumNursesForEachShift();
         minimumNursesNeeded.set(0,minimumNursesNeeded.get(0)-1);
@@ -329,7 +309,7 @@ public class CPServiceImpl implements CPService {
 
         for (int d : allDays) {
             LocalDate date = shiftDate.withDayOfMonth(d + 1);
-            boolean isWeekend = isWeekend(date);
+            boolean isWeekend = WorkingHours.isWeekend(date);
             List<LinearExprBuilder> totalNursesInShifts = new ArrayList<>(totalShifts);
 
             for (int s = 0; s < totalShifts; s++) {
@@ -338,12 +318,11 @@ public class CPServiceImpl implements CPService {
 
             for (int n : allNurses) {
                 Nurse nurse = nurseList.get(n);
-                WorkDay workDay = workDays.stream().filter(w -> Objects.equals(w.getNurseId(), nurse.getId())).findFirst().orElse(null);
                 Date workDate = convertDate(shiftDate, d);
                 List<Nurse> nurses = existsWorKDaysForEachNurse.get(workDate.toString());
                 boolean previousMonthLastTwoDayShift = checkPreviousShifts(lastDayShifts, secondLastDayShifts, nurse, d);
                 boolean checkWorkDay = checkWorkDayByListSize(nurses,workDate,constraint);
-                if ((workDay == null || (workDay.getWorkDate().contains(workDate)) || checkWorkDay) && !previousMonthLastTwoDayShift) {
+                if ((isAvailableOnDay(availableDays, nurse, d) || checkWorkDay) && !previousMonthLastTwoDayShift) {
                     if (!isWeekend) {
                         for (int s = 0; s < totalShifts - 1; s++) {
                             totalNursesInShifts.get(s).addTerm(shifts[n][d][s], 1);
@@ -373,18 +352,17 @@ public class CPServiceImpl implements CPService {
     }
 
     private void implementNotWorkingShifts(List<Nurse> nurseList, int[] allNurses, int[] allDays, int[] allShifts,
-                                           Literal[][][] shifts, CpModel model, LocalDate shiftDate, List<WorkDay> workDays,
+                                           Literal[][][] shifts, CpModel model, LocalDate shiftDate, Map<String, Integer> availableDays,
                                            HashMap<String, List<Nurse>> existsWorKDaysForEachNurse,Constraint constraint,
                                            List<ShiftDto> lastDayShifts,List<ShiftDto> secondLastDayShifts) {
         for (int n : allNurses) {
             Nurse nurse = nurseList.get(n);
-            WorkDay workDay = workDays.stream().filter(w -> Objects.equals(w.getNurseId(), nurse.getId())).findFirst().orElse(null);
             for (int d = 0; d < allDays.length; d++) {
                 Date date = convertDate(shiftDate, d);
                 List<Nurse> nurses = existsWorKDaysForEachNurse.get(date.toString());
                 boolean previousMonthLastTwoDayShift = checkPreviousShifts(lastDayShifts, secondLastDayShifts, nurse, d);
                 boolean checkWorkDay = checkWorkDayByListSize(nurses,date,constraint);
-                if ((workDay == null || workDay.getWorkDate().contains(date) ||checkWorkDay) && !previousMonthLastTwoDayShift) {
+                if ((isAvailableOnDay(availableDays, nurse, d) || checkWorkDay) && !previousMonthLastTwoDayShift) {
                     for (int s = 0; s < allShifts.length; s++) {
                         if (shifts[n][d][s] != null) {
                             for (int otherS = s + 1; otherS < allShifts.length; otherS++) {
@@ -0,0 +1,82 @@
+package com.example.nurseschedulingserver.service.implementations;
+
+import com.example.nurseschedulingserver.cache.CoalescingShiftReader;
+import com.example.nurseschedulingserver.cache.SingleFlight;
+import com.example.nurseschedulingserver.dto.cache.CacheRegionStatisticsDto;
+import com.example.nurseschedulingserver.dto.cache.CacheStatisticsDto;
+import com.example.nurseschedulingserver.dto.cache.CoalescingStatisticsDto;
+import com.example.nurseschedulingserver.entity.constraint.Constraint;
+import com.example.nurseschedulingserver.entity.department.Department;
+import com.example.nurseschedulingserver.entity.nurse.Nurse;
+import com.example.nurseschedulingserver.service.interfaces.CacheService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+public class CacheServiceImpl implements CacheService {
+    private static final String CONSTRAINT_QUERY_REGION = "constraint-queries";
+    private static final String NURSE_QUERY_REGION = "nurse-queries";
+    private static final String DEPARTMENT_QUERY_REGION = "department-queries";
+    private final SessionFactory sessionFactory;
+    private final CoalescingShiftReader shiftReader;
+
+    public CacheServiceImpl(EntityManagerFactory entityManagerFactory, CoalescingShiftReader shiftReader) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.shiftReader = shiftReader;
+    }
+
+    @Override
+    public CacheStatisticsDto getCacheStatistics() {
+        Statistics statistics = sessionFactory.getStatistics();
+        Map<String, CacheRegionStatisticsDto> regions = new TreeMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+            if (region != null) {
+                regions.put(regionName, new CacheRegionStatisticsDto(region.getHitCount(), region.getMissCount(), region.getPutCount()));
+            }
+        }
+        return new CacheStatisticsDto(
+                statistics.isStatisticsEnabled(),
+                statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(),
+                statistics.getSecondLevelCachePutCount(),
+                statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(),
+                statistics.getQueryCachePutCount(),
+                statistics.getQueryExecutionCount(),
+                statistics.getEntityLoadCount(),
+                regions,
+                Map.of("shiftsByMonth", coalescingStatistics(shiftReader.getMonthReads()),
+                        "shiftsByDate", coalescingStatistics(shiftReader.getDateReads())));
+    }
+
+    private static CoalescingStatisticsDto coalescingStatistics(SingleFlight<?, ?> singleFlight) {
+        return new CoalescingStatisticsDto(singleFlight.getExecutionCount(), singleFlight.getCoalescedCount());
+    }
+
+    @Override
+    public void evictConstraint(String constraintId) {
+        sessionFactory.getCache().evictEntityData(Constraint.class, constraintId);
+        sessionFactory.getCache().evictCollectionData(Constraint.class.getName() + ".minimumNursesForEachShift", constraintId);
+        sessionFactory.getCache().evictQueryRegion(CONSTRAINT_QUERY_REGION);
+    }
+
+    @Override
+    public void evictNurses() {
+        sessionFactory.getCache().evictEntityData(Nurse.class);
+        sessionFactory.getCache().evictEntityData(Department.class);
+        sessionFactory.getCache().evictQueryRegion(NURSE_QUERY_REGION);
+        sessionFactory.getCache().evictQueryRegion(DEPARTMENT_QUERY_REGION);
+    }
+
+    @Override
+    public void evictAll() {
+        sessionFactory.getCache().evictAllRegions();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.nurseschedulingserver.service.implementations;
+
+import com.example.nurseschedulingserver.cache.CalendarFeedCache;
+import com.example.nurseschedulingserver.dto.auth.AuthProjection;
+import com.example.nurseschedulingserver.dto.calendar.CalendarFeedDto;
+import com.example.nurseschedulingserver.service.interfaces.CalendarService;
+import com.example.nurseschedulingserver.service.interfaces.NurseService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class CalendarServiceImpl implements CalendarService {
+    private final NurseService nurseService;
+    private final CalendarFeedCache calendarFeedCache;
+
+    @Override
+    public CalendarFeedDto getLoggedInUserCalendarFeed() {
+        AuthProjection user = nurseService.getLoggedInUser();
+        return calendarFeedCache.getFeed(user.getId(), user.getDepartmentId(), user.getDepartmentName());
+    }
+}
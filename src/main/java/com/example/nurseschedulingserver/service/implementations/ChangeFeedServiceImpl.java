@@ -0,0 +1,55 @@
+package com.example.nurseschedulingserver.service.implementations;
+
+import com.example.nurseschedulingserver.cache.ChangeFeed;
+import com.example.nurseschedulingserver.dto.auth.AuthProjection;
+import com.example.nurseschedulingserver.dto.change.ChangeFeedDto;
+import com.example.nurseschedulingserver.notification.ChangeNotifier;
+import com.example.nurseschedulingserver.service.interfaces.ChangeFeedService;
+import com.example.nurseschedulingserver.service.interfaces.NurseService;
+import com.example.nurseschedulingserver.service.interfaces.ShiftService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class ChangeFeedServiceImpl implements ChangeFeedService {
+    private final ChangeFeed changeFeed;
+    private final NurseService nurseService;
+    private final ShiftService shiftService;
+    private final ChangeNotifier changeNotifier;
+
+    @Override
+    public ChangeFeedDto getChanges(String since) {
+        if (since == null) {
+            return ChangeFeedDto.buildForResync(changeFeed.getToken().toString());
+        }
+        AuthProjection user = nurseService.getLoggedInUser();
+        ChangeFeed.ChangeSet changeSet = changeFeed.getChangesSince(user.getDepartmentId(), since);
+        if (changeSet == null) {
+            return ChangeFeedDto.buildForResync(changeFeed.getToken().toString());
+        }
+        Set<String> shiftIds = new LinkedHashSet<>();
+        Set<String> exchangeShiftRequestIds = new LinkedHashSet<>();
+        Set<String> offDayIds = new LinkedHashSet<>();
+        for (ChangeFeed.Change change : changeSet.changes()) {
+            switch (change.type()) {
+                case SHIFT -> shiftIds.add(change.id());
+                case EXCHANGE_SHIFT_REQUEST -> exchangeShiftRequestIds.add(change.id());
+                case OFF_DAY -> offDayIds.add(change.id());
+            }
+        }
+        return new ChangeFeedDto(changeSet.token().toString(), false, shiftService.getShiftsByIds(shiftIds),
+                new ArrayList<>(exchangeShiftRequestIds), new ArrayList<>(offDayIds));
+    }
+
+    @Override
+    public SseEmitter subscribe() {
+        AuthProjection user = nurseService.getLoggedInUser();
+        return changeNotifier.subscribe(user.getId(), user.getDepartmentId(), changeFeed.getToken());
+    }
+}
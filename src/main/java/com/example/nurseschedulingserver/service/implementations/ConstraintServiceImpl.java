@@ -1,10 +1,12 @@
 package com.example.nurseschedulingserver.service.implementations;
 
+import com.example.nurseschedulingserver.cache.InvalidationBus;
 import com.example.nurseschedulingserver.dto.constraint.ConstraintResponseDto;
 import com.example.nurseschedulingserver.entity.constraint.Constraint;
 import com.example.nurseschedulingserver.entity.department.Department;
 import com.example.nurseschedulingserver.entity.nurse.Nurse;
 import com.example.nurseschedulingserver.repository.ConstraintRepository;
+import com.example.nurseschedulingserver.service.interfaces.CacheService;
 import com.example.nurseschedulingserver.service.interfaces.ConstraintService;
 import com.example.nurseschedulingserver.service.interfaces.DepartmentService;
 import com.example.nurseschedulingserver.service.interfaces.NurseService;
@@ -20,6 +22,8 @@ public class ConstraintServiceImpl implements ConstraintService {
     private final ConstraintRepository constraintRepository;
     private final DepartmentService departmentService;
     private final NurseService nurseService;
+    private final CacheService cacheService;
+    private final InvalidationBus invalidationBus;
 
     @Override
     public ConstraintResponseDto createConstraint(String departmentName, List<Integer> minimumNursesForEachShift) throws Exception {
@@ -39,7 +43,9 @@ public class ConstraintServiceImpl implements ConstraintService {
             Constraint constraint = new Constraint();
             constraint.setDepartmentId(department.getId());
             constraint.setMinimumNursesForEachShift(minimumNursesForEachShift);
-            constraintRepository.save(constraint);
+            constraint = constraintRepository.save(constraint);
+            cacheService.evictConstraint(constraint.getId());
+            invalidationBus.publishConstraintChanged(constraint.getId());
 
             return new ConstraintResponseDto("Kısıtlamalar Başarıyla Oluşturuldu");
         } catch (Exception e) {
@@ -61,6 +67,8 @@ public class ConstraintServiceImpl implements ConstraintService {
             constraint.setMinimumNursesForEachShift(minimumNursesForEachShift);
             constraint.setDepartmentId(department.getId());
             constraintRepository.save(constraint);
+            cacheService.evictConstraint(constraint.getId());
+            invalidationBus.publishConstraintChanged(constraint.getId());
 
             return new ConstraintResponseDto("Kısıtlamalar Başarıyla Güncellendi");
         } catch (Exception e) {
@@ -78,6 +86,11 @@ public class ConstraintServiceImpl implements ConstraintService {
         return constraint.orElse(null);
     }
 
+    @Override
+    public Constraint getConstraintByDepartmentId(String departmentId) {
+        return constraintRepository.findByDepartmentId(departmentId).orElse(null);
+    }
+
     private Department validateDepartment(String departmentName) throws Exception {
         Department department = departmentService.getDepartmentByName(departmentName);
         if (department == null) {
@@ -0,0 +1,79 @@
+package com.example.nurseschedulingserver.service.implementations;
+
+import com.example.nurseschedulingserver.cache.RosterIndex;
+import com.example.nurseschedulingserver.cache.RosterIndexCache;
+import com.example.nurseschedulingserver.dto.auth.AuthProjection;
+import com.example.nurseschedulingserver.dto.dashboard.DayCoverageDto;
+import com.example.nurseschedulingserver.dto.dashboard.MonthDashboardDto;
+import com.example.nurseschedulingserver.dto.dashboard.NurseSummaryDto;
+import com.example.nurseschedulingserver.entity.constraint.Constraint;
+import com.example.nurseschedulingserver.entity.nurse.Nurse;
+import com.example.nurseschedulingserver.enums.ShiftType;
+import com.example.nurseschedulingserver.scheduling.WorkingHours;
+import com.example.nurseschedulingserver.service.interfaces.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class DashboardServiceImpl implements DashboardService {
+    private final NurseService nurseService;
+    private final ConstraintService constraintService;
+    private final OffDayService offDayService;
+    private final ExchangeShiftRequestService exchangeShiftRequestService;
+    private final RosterIndexCache rosterIndexCache;
+
+    @Override
+    public MonthDashboardDto getMonthDashboard(String month, String year) {
+        AuthProjection user = nurseService.getLoggedInUser();
+        YearMonth yearMonth = YearMonth.of(Integer.parseInt(year), Integer.parseInt(month));
+        RosterIndex roster = rosterIndexCache.getRoster(user.getDepartmentId(), yearMonth);
+
+        List<NurseSummaryDto> nurses = new ArrayList<>();
+        for (Nurse nurse : nurseService.getNursesByDepartment(user.getDepartmentId())) {
+            int nurseIndex = roster.getNurseIndex(nurse.getId());
+            if (nurseIndex == -1) {
+                nurses.add(new NurseSummaryDto(nurse.getId(), nurse.getFirstName(), nurse.getLastName(), 0, 0, 0, 0));
+                continue;
+            }
+            nurses.add(new NurseSummaryDto(nurse.getId(), nurse.getFirstName(), nurse.getLastName(), roster.getNurseHours(nurseIndex),
+                    roster.getNurseShiftCount(nurseIndex, ShiftType.DAY), roster.getNurseShiftCount(nurseIndex, ShiftType.NIGHT),
+                    roster.getNurseShiftCount(nurseIndex, ShiftType.FULL)));
+        }
+
+        Constraint constraint = constraintService.getConstraintByDepartmentId(user.getDepartmentId());
+        List<DayCoverageDto> days = new ArrayList<>(roster.getDays());
+        for (int d = 0; d < roster.getDays(); d++) {
+            LocalDate date = yearMonth.atDay(d + 1);
+            int[] scheduled = new int[ShiftType.values().length];
+            for (ShiftType shiftType : ShiftType.values()) {
+                scheduled[shiftType.ordinal()] = roster.getCoverage(d, shiftType);
+            }
+            days.add(new DayCoverageDto(date, scheduled, getRequiredNurses(constraint, date)));
+        }
+
+        return new MonthDashboardDto(yearMonth.getMonthValue(), yearMonth.getYear(), WorkingHours.getMinimumWorkingHours(yearMonth),
+                nurses, days, offDayService.countPendingOffDays(user.getDepartmentId(), yearMonth),
+                exchangeShiftRequestService.countPendingExchangeShiftRequests(user.getDepartmentId(), yearMonth));
+    }
+
+    private int[] getRequiredNurses(Constraint constraint, LocalDate date) {
+        int[] required = new int[ShiftType.values().length];
+        if (constraint == null) {
+            return required;
+        }
+        List<Integer> minimums = constraint.getMinimumNursesForEachShift();
+        if (WorkingHours.isWeekend(date)) {
+            required[ShiftType.FULL.ordinal()] = minimums.get(2);
+        } else {
+            required[ShiftType.DAY.ordinal()] = minimums.get(0);
+            required[ShiftType.NIGHT.ordinal()] = minimums.get(1);
+        }
+        return required;
+    }
+}
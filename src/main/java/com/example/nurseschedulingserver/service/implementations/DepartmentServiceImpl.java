@@ -2,16 +2,26 @@ package com.example.nurseschedulingserver.service.implementations;
 
 import com.example.nurseschedulingserver.entity.department.Department;
 import com.example.nurseschedulingserver.repository.DepartmentRepository;
+import com.example.nurseschedulingserver.service.interfaces.CacheService;
 import com.example.nurseschedulingserver.service.interfaces.DepartmentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class DepartmentServiceImpl implements DepartmentService {
     private final DepartmentRepository departmentRepository;
+    private final CacheService cacheService;
+    // Names come straight from clients, so an unknown one only reloads the departments once per
+    // interval; departments saved on this node are picked up immediately by saveDepartment.
+    private static final long MISS_REFRESH_MILLIS = 30_000;
+    private volatile Map<String, String> departmentIdsByName = Map.of();
+    private volatile long refreshedAt;
+
     @Override
     public Department getDepartmentByName(String name) {
         return departmentRepository.findByName(name).orElse(null);
@@ -21,4 +31,42 @@ public class DepartmentServiceImpl implements DepartmentService {
     public List<Department> getAllDepartments() {
         return departmentRepository.findAll();
     }
+
+    @Override
+    public String getDepartmentIdByName(String name) {
+        if (name == null) {
+            return null;
+        }
+        String id = departmentIdsByName.get(name);
+        if (id == null && System.currentTimeMillis() - refreshedAt >= MISS_REFRESH_MILLIS) {
+            refreshDepartmentsAfterMiss();
+            id = departmentIdsByName.get(name);
+        }
+        return id;
+    }
+
+    @Override
+    public Department saveDepartment(Department department) {
+        Department savedDepartment = departmentRepository.save(department);
+        cacheService.evictNurses();
+        refreshDepartments();
+        return savedDepartment;
+    }
+
+    @Override
+    public synchronized void refreshDepartments() {
+        Map<String, String> idsByName = new HashMap<>();
+        for (Department department : departmentRepository.findAll()) {
+            idsByName.put(department.getName(), department.getId());
+        }
+        departmentIdsByName = idsByName;
+        refreshedAt = System.currentTimeMillis();
+    }
+
+    private synchronized void refreshDepartmentsAfterMiss() {
+        // Another caller may have reloaded while this one waited for the lock.
+        if (System.currentTimeMillis() - refreshedAt >= MISS_REFRESH_MILLIS) {
+            refreshDepartments();
+        }
+    }
 }
@@ -1,50 +1,101 @@
 package com.example.nurseschedulingserver.service.implementations;
 
+import com.example.nurseschedulingserver.cache.RosterIndex;
+import com.example.nurseschedulingserver.cache.RosterIndexCache;
 import com.example.nurseschedulingserver.dto.auth.AuthProjection;
+import com.example.nurseschedulingserver.dto.moderation.BulkStatusUpdateDto;
 import com.example.nurseschedulingserver.dto.shift.CreateExchangeShiftRequestDto;
+import com.example.nurseschedulingserver.dto.shift.ExchangeCycleDto;
 import com.example.nurseschedulingserver.dto.shift.ExchangeShiftRequestDto;
+import com.example.nurseschedulingserver.dto.shift.ExchangeShiftRequestUpdateDto;
+import com.example.nurseschedulingserver.dto.shift.PendingExchangeDto;
+import com.example.nurseschedulingserver.dto.shift.ShiftDto;
 import com.example.nurseschedulingserver.entity.shift.ExchangeShiftRequest;
 import com.example.nurseschedulingserver.entity.shift.Shift;
+import com.example.nurseschedulingserver.enums.ChangeType;
 import com.example.nurseschedulingserver.enums.RequestStatus;
+import com.example.nurseschedulingserver.event.RequestsChangedEvent;
+import com.example.nurseschedulingserver.event.ShiftsChangedEvent;
 import com.example.nurseschedulingserver.repository.ExchangeShiftRequestRepository;
+import com.example.nurseschedulingserver.scheduling.ExchangeCycleFinder;
+import com.example.nurseschedulingserver.scheduling.ShiftExchangeExecutor;
+import com.example.nurseschedulingserver.scheduling.ShiftTimeline;
 import com.example.nurseschedulingserver.service.interfaces.ExchangeShiftRequestService;
 import com.example.nurseschedulingserver.service.interfaces.NurseService;
 import com.example.nurseschedulingserver.service.interfaces.ShiftService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
-import java.util.Calendar;
-import java.util.List;
-import java.util.Optional;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
 public class ExchangeShiftRequestServiceImpl implements ExchangeShiftRequestService {
+    private static final int MIN_CYCLE_LENGTH = 3;
+    private static final int MAX_CYCLE_LENGTH = 4;
     private final ExchangeShiftRequestRepository exchangeShiftRequestRepository;
     private final NurseService nurseService;
     private final ShiftService shiftService;
+    private final RosterIndexCache rosterIndexCache;
+    private final ShiftExchangeExecutor shiftExchangeExecutor;
+    private final ApplicationEventPublisher eventPublisher;
     @Override
-    public List<ExchangeShiftRequestDto> getAllLoggedInUserExchangeShiftRequests() {
-        Calendar calendar = Calendar.getInstance();
-        int month = calendar.get(Calendar.MONTH) + 1;
-        int year = calendar.get(Calendar.YEAR);
+    public List<ExchangeShiftRequestDto> getAllLoggedInUserExchangeShiftRequests(String after, int size) {
         AuthProjection authProjection = nurseService.getLoggedInUser();
-        return exchangeShiftRequestRepository.findAllByRequestedShiftId(authProjection.getId(), month, year);
+        YearMonth month = YearMonth.now();
+        Date from = toDate(month.atDay(1));
+        Date to = toDate(month.plusMonths(1).atDay(1));
+        if (after == null) {
+            return exchangeShiftRequestRepository.findInbox(authProjection.getId(), from, to, size);
+        }
+        ExchangeShiftRequest cursor = exchangeShiftRequestRepository.findById(after).orElseThrow(() -> new RuntimeException("Exchange shift request not found"));
+        return exchangeShiftRequestRepository.findInboxAfter(authProjection.getId(), from, to, cursor.getRequesterShiftStartDate(), cursor.getId(), size);
+    }
+
+    @Override
+    public long countLoggedInUserPendingExchangeShiftRequests() {
+        AuthProjection authProjection = nurseService.getLoggedInUser();
+        YearMonth month = YearMonth.now();
+        return exchangeShiftRequestRepository.countInbox(authProjection.getId(), toDate(month.atDay(1)), toDate(month.plusMonths(1).atDay(1)));
+    }
+
+    @Override
+    public long countPendingExchangeShiftRequests(String departmentId, YearMonth month) {
+        return exchangeShiftRequestRepository.countPendingByDepartmentId(departmentId, toDate(month.atDay(1)), toDate(month.plusMonths(1).atDay(1)));
+    }
+
+    private Date toDate(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    @EventListener
+    public void onShiftsChanged(ShiftsChangedEvent event) {
+        List<String> shiftIds = event.getShifts().stream().map(Shift::getId).toList();
+        if (shiftIds.isEmpty()) {
+            return;
+        }
+        exchangeShiftRequestRepository.refreshRequesterShiftNurses(shiftIds);
+        exchangeShiftRequestRepository.refreshRequestedShiftNurses(shiftIds);
     }
 
     @Override
     public String acceptExchangeShiftRequest(String id) {
-        ExchangeShiftRequest exchangeShiftRequest = exchangeShiftRequestRepository.findById(id).orElseThrow(() -> new RuntimeException("Exchange shift request not found"));
-        Shift requestedShift = shiftService.getShiftEntityById(exchangeShiftRequest.getRequestedShiftId());
-        Shift requesterShift  = shiftService.getShiftEntityById(exchangeShiftRequest.getRequesterShiftId());
-        exchangeShiftRequest.setStatus(RequestStatus.ACCEPTED);
-        String requestedShiftNurseId = requestedShift.getNurseId();
-        requestedShift.setNurseId(requesterShift.getNurseId());
-        requesterShift.setNurseId(requestedShiftNurseId);
-        shiftService.saveShift(requestedShift);
-        shiftService.saveShift(requesterShift);
-        exchangeShiftRequestRepository.save(exchangeShiftRequest);
-        return exchangeShiftRequest.getStatus().name();
+        ExchangeShiftRequest exchangeShiftRequest = shiftExchangeExecutor.execute(() -> {
+            ExchangeShiftRequest request = exchangeShiftRequestRepository.findById(id).orElseThrow(() -> new RuntimeException("Exchange shift request not found"));
+            if (exchangeShiftRequestRepository.updateStatusIfPending(id, RequestStatus.ACCEPTED.name()) == 0) {
+                throw new RuntimeException("Exchange shift request is not pending");
+            }
+            shiftService.swapShiftNurses(request.getRequestedShiftId(), request.getRequesterShiftId(), true);
+            return request;
+        });
+        publishRequestsChanged(exchangeShiftRequest);
+        return RequestStatus.ACCEPTED.name();
     }
 
     @Override
@@ -52,8 +103,175 @@ public class ExchangeShiftRequestServiceImpl implements ExchangeShiftRequestServ
         ExchangeShiftRequest exchangeShiftRequest = exchangeShiftRequestRepository.findById(id).orElseThrow(() -> new RuntimeException("Exchange shift request not found"));
         exchangeShiftRequest.setStatus(RequestStatus.REJECTED);
         exchangeShiftRequestRepository.save(exchangeShiftRequest);
+        publishRequestsChanged(exchangeShiftRequest);
         return exchangeShiftRequest.getStatus().name();
     }
+    @Override
+    public List<ExchangeShiftRequestUpdateDto> updateStatuses(BulkStatusUpdateDto bulkStatusUpdateDto) {
+        RequestStatus status = RequestStatus.valueOf(bulkStatusUpdateDto.getStatus());
+        if (status == RequestStatus.PENDING) {
+            throw new RuntimeException("Exchange shift requests can only be accepted or rejected");
+        }
+        AuthProjection user = nurseService.getLoggedInUser();
+        Set<String> nurseIds = new HashSet<>();
+        List<ExchangeShiftRequestUpdateDto> results = shiftExchangeExecutor.execute(() -> {
+            nurseIds.clear();
+            return status == RequestStatus.ACCEPTED
+                    ? acceptAll(bulkStatusUpdateDto.getIds(), user.getDepartmentId(), nurseIds)
+                    : rejectAll(bulkStatusUpdateDto.getIds(), user.getDepartmentId(), nurseIds);
+        });
+        eventPublisher.publishEvent(new RequestsChangedEvent(user.getDepartmentId(), ChangeType.EXCHANGE_SHIFT_REQUEST,
+                results.stream().filter(result -> result.getErrorMessage() == null).map(ExchangeShiftRequestUpdateDto::getId).toList(), nurseIds));
+        return results;
+    }
+
+    private List<ExchangeShiftRequestUpdateDto> rejectAll(List<String> ids, String departmentId, Set<String> nurseIds) {
+        Map<String, ExchangeShiftRequest> exchangeShiftRequests = findExchangeShiftRequests(ids, departmentId);
+        List<ExchangeShiftRequestUpdateDto> results = new ArrayList<>(ids.size());
+        List<String> rejectedIds = new ArrayList<>();
+        for (String id : ids) {
+            String error = checkPending(exchangeShiftRequests.get(id));
+            if (error != null) {
+                results.add(ExchangeShiftRequestUpdateDto.buildForError(id, error));
+                continue;
+            }
+            rejectedIds.add(id);
+            addNurseIds(nurseIds, exchangeShiftRequests.get(id));
+            results.add(new ExchangeShiftRequestUpdateDto(id, RequestStatus.REJECTED.name(), null));
+        }
+        updateStatusesIfPending(rejectedIds, RequestStatus.REJECTED);
+        return results;
+    }
+
+    private List<ExchangeShiftRequestUpdateDto> acceptAll(List<String> ids, String departmentId, Set<String> nurseIds) {
+        Map<String, ExchangeShiftRequest> exchangeShiftRequests = findExchangeShiftRequests(ids, departmentId);
+        Set<String> shiftIds = new HashSet<>();
+        for (ExchangeShiftRequest exchangeShiftRequest : exchangeShiftRequests.values()) {
+            shiftIds.add(exchangeShiftRequest.getRequesterShiftId());
+            shiftIds.add(exchangeShiftRequest.getRequestedShiftId());
+        }
+        Map<String, Shift> shifts = new HashMap<>();
+        shiftService.getShiftEntitiesByIds(shiftIds).forEach(shift -> shifts.put(shift.getId(), shift));
+
+        Map<YearMonth, Map<String, ShiftTimeline>> timelines = getNurseTimelines(shifts.values(), departmentId);
+        Set<String> usedShiftIds = new HashSet<>();
+        Set<String> usedNurseIds = new HashSet<>();
+        List<Shift> swappedShifts = new ArrayList<>();
+        List<String> acceptedIds = new ArrayList<>();
+        List<ExchangeShiftRequestUpdateDto> results = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            ExchangeShiftRequest exchangeShiftRequest = exchangeShiftRequests.get(id);
+            String error = checkPending(exchangeShiftRequest);
+            Shift requesterShift = error == null ? shifts.get(exchangeShiftRequest.getRequesterShiftId()) : null;
+            Shift requestedShift = error == null ? shifts.get(exchangeShiftRequest.getRequestedShiftId()) : null;
+            if (error == null && (requesterShift == null || requestedShift == null)) {
+                error = "Shift not found";
+            }
+            if (error == null && (usedShiftIds.contains(requesterShift.getId()) || usedShiftIds.contains(requestedShift.getId())
+                    || usedNurseIds.contains(requesterShift.getNurseId()) || usedNurseIds.contains(requestedShift.getNurseId()))) {
+                error = "Shift or nurse is already part of another exchange in this request";
+            }
+            if (error == null && !canSwap(requesterShift, requestedShift, timelines)) {
+                error = "Shift exchange breaks rest rules";
+            }
+            if (error != null) {
+                results.add(ExchangeShiftRequestUpdateDto.buildForError(id, error));
+                continue;
+            }
+
+            usedShiftIds.add(requesterShift.getId());
+            usedShiftIds.add(requestedShift.getId());
+            usedNurseIds.add(requesterShift.getNurseId());
+            usedNurseIds.add(requestedShift.getNurseId());
+            nurseIds.add(requesterShift.getNurseId());
+            nurseIds.add(requestedShift.getNurseId());
+            String requesterNurseId = requesterShift.getNurseId();
+            requesterShift.setNurseId(requestedShift.getNurseId());
+            requestedShift.setNurseId(requesterNurseId);
+            swappedShifts.add(requesterShift);
+            swappedShifts.add(requestedShift);
+            acceptedIds.add(id);
+            results.add(new ExchangeShiftRequestUpdateDto(id, RequestStatus.ACCEPTED.name(), null));
+        }
+        if (!swappedShifts.isEmpty()) {
+            shiftService.saveAll(swappedShifts);
+        }
+        updateStatusesIfPending(acceptedIds, RequestStatus.ACCEPTED);
+        return results;
+    }
+
+    private Map<String, ExchangeShiftRequest> findExchangeShiftRequests(List<String> ids, String departmentId) {
+        Map<String, ExchangeShiftRequest> exchangeShiftRequests = new HashMap<>();
+        exchangeShiftRequestRepository.findAllByIdInAndDepartmentId(ids, departmentId).forEach(exchangeShiftRequest -> exchangeShiftRequests.put(exchangeShiftRequest.getId(), exchangeShiftRequest));
+        return exchangeShiftRequests;
+    }
+
+    private void addNurseIds(Set<String> nurseIds, ExchangeShiftRequest exchangeShiftRequest) {
+        if (exchangeShiftRequest.getRequesterShiftNurseId() != null) {
+            nurseIds.add(exchangeShiftRequest.getRequesterShiftNurseId());
+        }
+        if (exchangeShiftRequest.getRequestedShiftNurseId() != null) {
+            nurseIds.add(exchangeShiftRequest.getRequestedShiftNurseId());
+        }
+    }
+
+    private String checkPending(ExchangeShiftRequest exchangeShiftRequest) {
+        if (exchangeShiftRequest == null) {
+            return "Exchange shift request not found";
+        }
+        return exchangeShiftRequest.getStatus() == RequestStatus.PENDING ? null : "Exchange shift request is not pending";
+    }
+
+    private void updateStatusesIfPending(List<String> ids, RequestStatus status) {
+        if (!ids.isEmpty() && exchangeShiftRequestRepository.updateStatusesIfPending(ids, status.name()) != ids.size()) {
+            throw new OptimisticLockingFailureException("Exchange shift requests were changed concurrently");
+        }
+    }
+
+    private boolean canSwap(Shift first, Shift second, Map<YearMonth, Map<String, ShiftTimeline>> timelines) {
+        ShiftTimeline firstNurseShifts = getNurseMonthTimeline(first, timelines);
+        ShiftTimeline secondNurseShifts = getNurseMonthTimeline(second, timelines);
+        int firstShift = firstNurseShifts.indexOf(first.getId());
+        int secondShift = secondNurseShifts.indexOf(second.getId());
+        return firstShift != -1 && secondShift != -1
+                && ExchangeCycleFinder.canSwap(firstNurseShifts, firstShift, secondNurseShifts, secondShift);
+    }
+
+    private ShiftTimeline getNurseMonthTimeline(Shift shift, Map<YearMonth, Map<String, ShiftTimeline>> timelines) {
+        return timelines.get(toYearMonth(shift.getStartDate())).get(shift.getNurseId());
+    }
+
+    /**
+     * Reads the month timelines of the given shifts' nurses inside the accepting transaction,
+     * one query per month, rather than trusting the roster cache the rest rules would be
+     * checked against otherwise.
+     */
+    private Map<YearMonth, Map<String, ShiftTimeline>> getNurseTimelines(Collection<Shift> shifts, String departmentId) {
+        Map<YearMonth, Set<String>> nurseIdsByMonth = new HashMap<>();
+        for (Shift shift : shifts) {
+            nurseIdsByMonth.computeIfAbsent(toYearMonth(shift.getStartDate()), month -> new HashSet<>()).add(shift.getNurseId());
+        }
+        Map<YearMonth, Map<String, ShiftTimeline>> timelines = new HashMap<>();
+        nurseIdsByMonth.forEach((month, nurseIds) -> timelines.put(month, getNurseTimelines(nurseIds, month, departmentId)));
+        return timelines;
+    }
+
+    private Map<String, ShiftTimeline> getNurseTimelines(Collection<String> nurseIds, YearMonth month, String departmentId) {
+        Map<String, List<ShiftDto>> shiftsByNurse = new HashMap<>();
+        for (ShiftDto shift : shiftService.getShiftsByNurseIdsAndMonth(nurseIds, month.getMonthValue(), month.getYear(), departmentId)) {
+            shiftsByNurse.computeIfAbsent(shift.getNurseId(), nurseId -> new ArrayList<>()).add(shift);
+        }
+        Map<String, ShiftTimeline> timelines = new HashMap<>();
+        for (String nurseId : nurseIds) {
+            timelines.put(nurseId, ShiftTimeline.of(shiftsByNurse.getOrDefault(nurseId, List.of())));
+        }
+        return timelines;
+    }
+
+    private static YearMonth toYearMonth(Date date) {
+        return YearMonth.from(date.toInstant().atZone(ZoneId.systemDefault()));
+    }
+
     @Override
     public String createExchangeShiftRequest(CreateExchangeShiftRequestDto createExchangeShiftRequestDto) {
         Optional<ExchangeShiftRequest> exchangeShiftRequestOptional = exchangeShiftRequestRepository.findByRequesterShiftIdAndRequestedShiftId
@@ -65,9 +283,108 @@ public class ExchangeShiftRequestServiceImpl implements ExchangeShiftRequestServ
         ExchangeShiftRequest exchangeShiftRequest = new ExchangeShiftRequest();
         exchangeShiftRequest.setRequesterShiftId(createExchangeShiftRequestDto.getRequesterShiftId());
         exchangeShiftRequest.setRequestedShiftId(createExchangeShiftRequestDto.getRequestedShiftId());
+        ShiftDto requesterShift = shiftService.getShiftById(createExchangeShiftRequestDto.getRequesterShiftId());
+        exchangeShiftRequest.setRequesterShiftNurseId(requesterShift.getNurseId());
+        exchangeShiftRequest.setRequesterShiftNurseName(requesterShift.getNurseFirstName() + " " + requesterShift.getNurseLastName());
+        exchangeShiftRequest.setRequesterShiftStartDate(requesterShift.getStartDate());
+        exchangeShiftRequest.setRequesterShiftEndDate(requesterShift.getEndDate());
+        ShiftDto requestedShift = shiftService.getShiftById(createExchangeShiftRequestDto.getRequestedShiftId());
+        exchangeShiftRequest.setRequestedShiftNurseId(requestedShift.getNurseId());
+        exchangeShiftRequest.setRequestedShiftNurseName(requestedShift.getNurseFirstName() + " " + requestedShift.getNurseLastName());
+        exchangeShiftRequest.setRequestedShiftStartDate(requestedShift.getStartDate());
+        exchangeShiftRequest.setRequestedShiftEndDate(requestedShift.getEndDate());
         exchangeShiftRequest.setStatus(RequestStatus.PENDING);
         exchangeShiftRequestRepository.save(exchangeShiftRequest);
+        publishRequestsChanged(exchangeShiftRequest);
         return "Vardiya değişim isteği başarıyla oluşturuldu";
     }
 
+    @Override
+    public List<ExchangeCycleDto> getExchangeCycles(String month, String year) {
+        AuthProjection user = nurseService.getLoggedInUser();
+        YearMonth yearMonth = YearMonth.of(Integer.parseInt(year), Integer.parseInt(month));
+        return findExchangeCycles(user.getDepartmentId(), yearMonth,
+                exchangeShiftRequestRepository.findPendingByDepartmentIdAndMonthAndYear(user.getDepartmentId(), yearMonth.getMonthValue(), yearMonth.getYear()),
+                MIN_CYCLE_LENGTH, MAX_CYCLE_LENGTH)
+                .stream()
+                .map(cycle -> new ExchangeCycleDto(cycle.stream().map(PendingExchangeDto::getId).toList()))
+                .toList();
+    }
+
+    @Override
+    public String acceptExchangeCycle(ExchangeCycleDto exchangeCycleDto) {
+        List<String> requestIds = exchangeCycleDto.getRequestIds();
+        if (requestIds == null || requestIds.size() < MIN_CYCLE_LENGTH || new HashSet<>(requestIds).size() != requestIds.size()) {
+            throw new RuntimeException("Exchange cycle needs at least " + MIN_CYCLE_LENGTH + " distinct requests");
+        }
+        String departmentId = nurseService.getLoggedInUser().getDepartmentId();
+        List<String> nurseIds = shiftExchangeExecutor.execute(() -> {
+            List<ExchangeShiftRequest> exchangeShiftRequests = new ArrayList<>(requestIds.size());
+            List<Shift> shifts = new ArrayList<>(requestIds.size());
+            for (String requestId : requestIds) {
+                ExchangeShiftRequest exchangeShiftRequest = exchangeShiftRequestRepository.findById(requestId).orElseThrow(() -> new RuntimeException("Exchange shift request not found"));
+                if (exchangeShiftRequest.getStatus() != RequestStatus.PENDING) {
+                    throw new RuntimeException("Exchange shift request is not pending");
+                }
+                Shift shift = shiftService.getShiftEntityById(exchangeShiftRequest.getRequesterShiftId());
+                if (!departmentId.equals(nurseService.getNurseById(shift.getNurseId()).getDepartmentId())) {
+                    throw new RuntimeException("Exchange shift request not found");
+                }
+                exchangeShiftRequests.add(exchangeShiftRequest);
+                shifts.add(shift);
+            }
+
+            for (int i = 0; i < exchangeShiftRequests.size(); i++) {
+                ExchangeShiftRequest next = exchangeShiftRequests.get((i + 1) % exchangeShiftRequests.size());
+                if (!exchangeShiftRequests.get(i).getRequestedShiftId().equals(next.getRequesterShiftId())) {
+                    throw new RuntimeException("Exchange shift requests do not form a cycle");
+                }
+            }
+
+            YearMonth yearMonth = toYearMonth(shifts.get(0).getStartDate());
+            List<PendingExchangeDto> pending = exchangeShiftRequestRepository.findPendingByDepartmentIdAndMonthAndYear(departmentId, yearMonth.getMonthValue(), yearMonth.getYear())
+                    .stream()
+                    .filter(request -> requestIds.contains(request.getId()))
+                    .toList();
+            Map<String, ShiftTimeline> nurseShifts = getNurseTimelines(pending.stream().map(PendingExchangeDto::getRequesterNurseId).toList(),
+                    yearMonth, departmentId);
+            boolean valid = ExchangeCycleFinder.findCycles(pending, nurseShifts, requestIds.size(), requestIds.size()).stream()
+                    .anyMatch(cycle -> new HashSet<>(cycle.stream().map(PendingExchangeDto::getId).toList()).containsAll(requestIds));
+            if (!valid) {
+                throw new RuntimeException("Exchange cycle is no longer valid");
+            }
+
+            List<String> requesterNurseIds = shifts.stream().map(Shift::getNurseId).toList();
+            for (int i = 0; i < shifts.size(); i++) {
+                shifts.get((i + 1) % shifts.size()).setNurseId(requesterNurseIds.get(i));
+            }
+            shiftService.saveAll(shifts);
+            for (String requestId : requestIds) {
+                if (exchangeShiftRequestRepository.updateStatusIfPending(requestId, RequestStatus.ACCEPTED.name()) == 0) {
+                    throw new RuntimeException("Exchange shift request is not pending");
+                }
+            }
+            return requesterNurseIds;
+        });
+        eventPublisher.publishEvent(new RequestsChangedEvent(departmentId, ChangeType.EXCHANGE_SHIFT_REQUEST,
+                requestIds, nurseIds));
+        return RequestStatus.ACCEPTED.name();
+    }
+
+    private void publishRequestsChanged(ExchangeShiftRequest exchangeShiftRequest) {
+        eventPublisher.publishEvent(new RequestsChangedEvent(nurseService.getLoggedInUser().getDepartmentId(), ChangeType.EXCHANGE_SHIFT_REQUEST,
+                List.of(exchangeShiftRequest.getId()),
+                Arrays.asList(exchangeShiftRequest.getRequesterShiftNurseId(), exchangeShiftRequest.getRequestedShiftNurseId())));
+    }
+
+    private List<List<PendingExchangeDto>> findExchangeCycles(String departmentId, YearMonth yearMonth, List<PendingExchangeDto> requests,
+                                                              int minLength, int maxLength) {
+        RosterIndex roster = rosterIndexCache.getRoster(departmentId, yearMonth);
+        Map<String, ShiftTimeline> nurseShifts = new HashMap<>();
+        for (PendingExchangeDto request : requests) {
+            nurseShifts.computeIfAbsent(request.getRequesterNurseId(), nurseId -> ShiftTimeline.of(roster.getShiftsByNurse(nurseId)));
+        }
+        return ExchangeCycleFinder.findCycles(requests, nurseShifts, minLength, maxLength);
+    }
+
 }
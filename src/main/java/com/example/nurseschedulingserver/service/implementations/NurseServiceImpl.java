@@ -7,6 +7,7 @@ import com.example.nurseschedulingserver.dto.nurse.NurseDto;
 import com.example.nurseschedulingserver.entity.nurse.Nurse;
 import com.example.nurseschedulingserver.enums.Role;
 import com.example.nurseschedulingserver.repository.NurseRepository;
+import com.example.nurseschedulingserver.service.interfaces.DepartmentService;
 import com.example.nurseschedulingserver.service.interfaces.NurseService;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
@@ -24,6 +25,7 @@ import java.util.Optional;
 public class NurseServiceImpl implements NurseService {
     private final NurseRepository nurseRepository;
     private final PasswordEncoder passwordEncoder;
+    private final DepartmentService departmentService;
     private final ModelMapper modelMapper = new ModelMapper();
     public AuthResponseDto authenticateNurse(AuthRequestDto payload, boolean checkRole) {
         Optional<AuthProjection> nurseOptional = nurseRepository.findNurseByTcKimlikNo(payload.getTcKimlikNo());
@@ -57,7 +59,7 @@ public class NurseServiceImpl implements NurseService {
 
     @Override
     public Page<NurseDto> getNurses(String department,Pageable pageable) {
-        return nurseRepository.findAllNursesByDepartment(department,pageable);
+        return nurseRepository.findAllNursesByDepartment(departmentService.getDepartmentIdByName(department),pageable);
     }
 
     @Override
@@ -70,7 +72,7 @@ public class NurseServiceImpl implements NurseService {
     }
 
     public List<NurseDto> getNursesList(String department){
-        return nurseRepository.findAllNursesByDepartmentList(department);
+        return nurseRepository.findAllNursesByDepartmentList(departmentService.getDepartmentIdByName(department));
     }
 
     public AuthProjection getLoggedInUser() {
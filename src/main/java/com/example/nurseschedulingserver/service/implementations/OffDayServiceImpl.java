@@ -1,29 +1,42 @@
 package com.example.nurseschedulingserver.service.implementations;
 
 import com.example.nurseschedulingserver.dto.auth.AuthProjection;
+import com.example.nurseschedulingserver.dto.moderation.BulkStatusUpdateDto;
 import com.example.nurseschedulingserver.dto.offday.OffDayResponseDto;
 import com.example.nurseschedulingserver.dto.offday.OffDayUpdateDto;
 import com.example.nurseschedulingserver.entity.offday.OffDay;
+import com.example.nurseschedulingserver.enums.ChangeType;
 import com.example.nurseschedulingserver.enums.RequestStatus;
+import com.example.nurseschedulingserver.event.RequestsChangedEvent;
 import com.example.nurseschedulingserver.repository.OffDayRepository;
 import com.example.nurseschedulingserver.service.interfaces.NurseService;
 import com.example.nurseschedulingserver.service.interfaces.OffDayService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class OffDayServiceImpl implements OffDayService {
     private final OffDayRepository offDayRepository;
     private final NurseService nurseService;
+    private final ApplicationEventPublisher eventPublisher;
     @Override
-    public Page<OffDayResponseDto> getOffDaysAsPagination(Pageable pageable,String status) {
+    public List<OffDayResponseDto> getOffDays(String status, String after, int size) {
         AuthProjection user = nurseService.getLoggedInUser();
-        return offDayRepository.findAllWithinPageAndStatus(status,user.getDepartmentName(),pageable);
+        if (after == null) {
+            return offDayRepository.findAllByStatus(status, user.getDepartmentId(), size);
+        }
+        OffDay cursor = offDayRepository.findById(after).orElseThrow(() -> new RuntimeException("Off day not found"));
+        return offDayRepository.findAllByStatusAfter(status, user.getDepartmentId(), cursor.getDate(), cursor.getId(), size);
     }
 
     @Override
@@ -34,6 +47,33 @@ public class OffDayServiceImpl implements OffDayService {
         }
         offDay.get().setStatus(RequestStatus.valueOf(status));
         offDayRepository.save(offDay.get());
+        eventPublisher.publishEvent(new RequestsChangedEvent(offDay.get().getDepartmentId(), ChangeType.OFF_DAY, List.of(id), List.of(offDay.get().getNurseId())));
         return new OffDayUpdateDto(offDay.get().getId(),offDay.get().getStatus().name(),null);
     }
+
+    @Override
+    @Transactional
+    public List<OffDayUpdateDto> updateStatuses(BulkStatusUpdateDto bulkStatusUpdateDto) {
+        AuthProjection user = nurseService.getLoggedInUser();
+        RequestStatus status = RequestStatus.valueOf(bulkStatusUpdateDto.getStatus());
+        Set<String> offDayIds = new HashSet<>(offDayRepository.findIdsByIdInAndDepartmentId(bulkStatusUpdateDto.getIds(), user.getDepartmentId()));
+        if (!offDayIds.isEmpty()) {
+            offDayRepository.updateStatuses(offDayIds, status.name());
+            eventPublisher.publishEvent(new RequestsChangedEvent(user.getDepartmentId(), ChangeType.OFF_DAY, offDayIds,
+                    offDayRepository.findNurseIdsByIdIn(offDayIds)));
+        }
+        return bulkStatusUpdateDto.getIds().stream()
+                .map(id -> offDayIds.contains(id) ? new OffDayUpdateDto(id, status.name(), null) : new OffDayUpdateDto(id, null, "Off day not found"))
+                .toList();
+    }
+
+    @Override
+    public Set<String> getNurseIdsOffOnDate(String departmentId, LocalDate date) {
+        return new HashSet<>(offDayRepository.findNurseIdsByDepartmentIdAndDateAndStatus(departmentId, date, RequestStatus.ACCEPTED));
+    }
+
+    @Override
+    public long countPendingOffDays(String departmentId, YearMonth month) {
+        return offDayRepository.countByDepartmentIdAndStatusAndDateBetween(departmentId, RequestStatus.PENDING, month.atDay(1), month.atEndOfMonth());
+    }
 }
@@ -0,0 +1,41 @@
+package com.example.nurseschedulingserver.service.implementations;
+
+import com.example.nurseschedulingserver.cache.RosterIndex;
+import com.example.nurseschedulingserver.cache.RosterIndexCache;
+import com.example.nurseschedulingserver.dto.auth.AuthProjection;
+import com.example.nurseschedulingserver.dto.replacement.ReplacementCandidateDto;
+import com.example.nurseschedulingserver.dto.shift.ShiftDto;
+import com.example.nurseschedulingserver.scheduling.ReplacementFinder;
+import com.example.nurseschedulingserver.service.interfaces.NurseService;
+import com.example.nurseschedulingserver.service.interfaces.OffDayService;
+import com.example.nurseschedulingserver.service.interfaces.ReplacementService;
+import com.example.nurseschedulingserver.service.interfaces.WorkDayService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ReplacementServiceImpl implements ReplacementService {
+    private final NurseService nurseService;
+    private final OffDayService offDayService;
+    private final WorkDayService workDayService;
+    private final RosterIndexCache rosterIndexCache;
+
+    @Override
+    public List<ReplacementCandidateDto> getReplacements(String nurseId, LocalDate date) {
+        AuthProjection user = nurseService.getLoggedInUser();
+        RosterIndex roster = rosterIndexCache.getRoster(user.getDepartmentId(), YearMonth.from(date));
+        ShiftDto shift = roster.getShiftByNurseAndDay(nurseId, date.getDayOfMonth() - 1);
+        if (shift == null) {
+            throw new RuntimeException("Shift not found");
+        }
+        return ReplacementFinder.findReplacements(roster, shift,
+                nurseService.getNursesByDepartment(user.getDepartmentId()),
+                workDayService.findAvailableDaysByMonthAndYear(date.getMonthValue(), date.getYear(), user.getDepartmentId()),
+                offDayService.getNurseIdsOffOnDate(user.getDepartmentId(), date));
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.nurseschedulingserver.service.implementations;
+
+import com.example.nurseschedulingserver.cache.RosterIndexCache;
+import com.example.nurseschedulingserver.dto.auth.AuthProjection;
+import com.example.nurseschedulingserver.dto.validation.RosterValidationDto;
+import com.example.nurseschedulingserver.scheduling.RosterValidator;
+import com.example.nurseschedulingserver.service.interfaces.ConstraintService;
+import com.example.nurseschedulingserver.service.interfaces.NurseService;
+import com.example.nurseschedulingserver.service.interfaces.RosterValidationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+
+@Service
+@RequiredArgsConstructor
+public class RosterValidationServiceImpl implements RosterValidationService {
+    private final NurseService nurseService;
+    private final ConstraintService constraintService;
+    private final RosterIndexCache rosterIndexCache;
+
+    @Override
+    public RosterValidationDto validateRoster(String month, String year) {
+        AuthProjection user = nurseService.getLoggedInUser();
+        return validateRoster(user.getDepartmentId(), YearMonth.of(Integer.parseInt(year), Integer.parseInt(month)));
+    }
+
+    @Override
+    public RosterValidationDto validateRoster(String departmentId, YearMonth month) {
+        return RosterValidator.validate(rosterIndexCache.getRoster(departmentId, month),
+                rosterIndexCache.getRoster(departmentId, month.minusMonths(1)),
+                constraintService.getConstraintByDepartmentId(departmentId),
+                nurseService.getNursesByDepartment(departmentId));
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.nurseschedulingserver.service.implementations;
+
+import com.example.nurseschedulingserver.dto.version.ScheduleVersionDto;
+import com.example.nurseschedulingserver.entity.shift.Shift;
+import com.example.nurseschedulingserver.event.ShiftsChangedEvent;
+import com.example.nurseschedulingserver.service.interfaces.NurseService;
+import com.example.nurseschedulingserver.service.interfaces.ScheduleVersionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@RequiredArgsConstructor
+public class ScheduleVersionServiceImpl implements ScheduleVersionService {
+    private final NurseService nurseService;
+    private final String instanceId = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<RosterKey, Long> rosterVersions = new ConcurrentHashMap<>();
+    private final Map<YearMonth, Long> monthVersions = new ConcurrentHashMap<>();
+    private final AtomicLong rostersVersion = new AtomicLong();
+    private final AtomicLong nurseListVersion = new AtomicLong();
+
+    @Override
+    public ScheduleVersionDto getRosterVersion(String departmentId, YearMonth month, String nurseId) {
+        long version = rosterVersions.getOrDefault(new RosterKey(departmentId, month), 0L)
+                + monthVersions.getOrDefault(month, 0L) + rostersVersion.get();
+        return new ScheduleVersionDto("roster-" + departmentId + "-" + month + "-" + nurseId + "-" + version + "-" + instanceId);
+    }
+
+    @Override
+    public ScheduleVersionDto getNurseListVersion(String department, String nurseId) {
+        return new ScheduleVersionDto("nurses-" + department + "-" + nurseId + "-" + nurseListVersion.get() + "-" + instanceId);
+    }
+
+    @Override
+    public void rosterChanged(String departmentId, YearMonth month) {
+        rosterVersions.merge(new RosterKey(departmentId, month), 1L, Long::sum);
+    }
+
+    @Override
+    public void rosterChanged(YearMonth month) {
+        monthVersions.merge(month, 1L, Long::sum);
+    }
+
+    @Override
+    public void rostersChanged() {
+        rostersVersion.incrementAndGet();
+    }
+
+    @Override
+    public void nursesChanged() {
+        nurseListVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onShiftsChanged(ShiftsChangedEvent event) {
+        Map<String, String> nurseDepartments = new HashMap<>();
+        Set<RosterKey> changed = new HashSet<>();
+        for (Shift shift : event.getShifts()) {
+            if (shift.getStartDate() == null) {
+                continue;
+            }
+            String departmentId = nurseDepartments.computeIfAbsent(shift.getNurseId(), nurseId -> nurseService.getNurseById(nurseId).getDepartmentId());
+            changed.add(new RosterKey(departmentId, YearMonth.from(shift.getStartDate().toInstant().atZone(ZoneId.systemDefault()))));
+        }
+        changed.forEach(key -> rosterChanged(key.departmentId(), key.month()));
+    }
+
+    private record RosterKey(String departmentId, YearMonth month) {
+    }
+}
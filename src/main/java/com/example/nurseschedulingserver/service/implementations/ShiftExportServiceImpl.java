@@ -0,0 +1,183 @@
+package com.example.nurseschedulingserver.service.implementations;
+
+import com.example.nurseschedulingserver.dto.export.ExportStatisticsDto;
+import com.example.nurseschedulingserver.enums.ExportFormat;
+import com.example.nurseschedulingserver.repository.ShiftExportRepository;
+import com.example.nurseschedulingserver.service.interfaces.ShiftExportService;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StreamUtils;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+public class ShiftExportServiceImpl implements ShiftExportService {
+    private static final String[] COLUMNS = {"id", "departmentId", "departmentName", "nurseId", "nurseFirstName", "nurseLastName", "startDate", "endDate"};
+    private static final int FIRST_TIMESTAMP_COLUMN = 6;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ShiftExportRepository shiftExportRepository;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final LongAdder exports = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final AtomicReference<ExportRun> lastExport = new AtomicReference<>(new ExportRun(0, 0, 0));
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportShifts(String departmentId, LocalDate from, LocalDate to, ExportFormat format, OutputStream outputStream) throws IOException {
+        export(from, to, format, outputStream, handler -> shiftExportRepository.streamShifts(departmentId, from, to, handler));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAllShifts(LocalDate from, LocalDate to, ExportFormat format, OutputStream outputStream) throws IOException {
+        export(from, to, format, outputStream, handler -> shiftExportRepository.streamAllShifts(from, to, handler));
+    }
+
+    private void export(LocalDate from, LocalDate to, ExportFormat format, OutputStream outputStream, Consumer<RowCallbackHandler> source) throws IOException {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Export range ends before it starts");
+        }
+        long start = System.nanoTime();
+        CountingOutputStream counter = new CountingOutputStream(StreamUtils.nonClosing(outputStream));
+        long[] rowCount = {0};
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(counter, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            ShiftRowWriter rowWriter = format == ExportFormat.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(jsonFactory.createGenerator(writer).setRootValueSeparator(null));
+            rowWriter.writeHeader();
+            try {
+                source.accept(resultSet -> {
+                    try {
+                        rowWriter.writeRow(resultSet);
+                        rowCount[0]++;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            rowWriter.flush();
+        } finally {
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            exports.increment();
+            rows.add(rowCount[0]);
+            bytes.add(counter.count);
+            lastExport.set(new ExportRun(rowCount[0], counter.count, millis));
+        }
+    }
+
+    @Override
+    public ExportStatisticsDto getExportStatistics() {
+        ExportRun last = lastExport.get();
+        long rowsPerSecond = last.millis() == 0 ? last.rows() * 1000 : last.rows() * 1000 / last.millis();
+        return new ExportStatisticsDto(exports.sum(), rows.sum(), bytes.sum(), last.rows(), last.bytes(), last.millis(), rowsPerSecond);
+    }
+
+    private static String format(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant().toString();
+    }
+
+    private interface ShiftRowWriter {
+        void writeHeader() throws IOException;
+
+        void writeRow(ResultSet resultSet) throws SQLException, IOException;
+
+        void flush() throws IOException;
+    }
+
+    private record CsvRowWriter(Writer writer) implements ShiftRowWriter {
+        @Override
+        public void writeHeader() throws IOException {
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void writeRow(ResultSet resultSet) throws SQLException, IOException {
+            for (int i = 0; i < COLUMNS.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                String value = i < FIRST_TIMESTAMP_COLUMN ? resultSet.getString(i + 1) : format(resultSet.getTimestamp(i + 1));
+                writeField(value);
+            }
+            writer.write("\r\n");
+        }
+
+        private void writeField(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private record NdjsonRowWriter(JsonGenerator generator) implements ShiftRowWriter {
+        @Override
+        public void writeHeader() {
+        }
+
+        @Override
+        public void writeRow(ResultSet resultSet) throws SQLException, IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < COLUMNS.length; i++) {
+                generator.writeStringField(COLUMNS[i], i < FIRST_TIMESTAMP_COLUMN ? resultSet.getString(i + 1) : format(resultSet.getTimestamp(i + 1)));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    private record ExportRun(long rows, long bytes, long millis) {
+    }
+}
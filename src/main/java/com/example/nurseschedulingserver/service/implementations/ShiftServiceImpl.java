@@ -1,45 +1,105 @@
 package com.example.nurseschedulingserver.service.implementations;
 
+import com.example.nurseschedulingserver.cache.CoalescingShiftReader;
+import com.example.nurseschedulingserver.cache.RosterIndex;
+import com.example.nurseschedulingserver.cache.RosterIndexCache;
 import com.example.nurseschedulingserver.dto.auth.AuthProjection;
 import com.example.nurseschedulingserver.dto.nurse.NurseDto;
 import com.example.nurseschedulingserver.dto.shift.ExchangeShiftDto;
 import com.example.nurseschedulingserver.dto.shift.ShiftDto;
+import com.example.nurseschedulingserver.dto.shift.SwapPartnerDto;
 import com.example.nurseschedulingserver.entity.shift.Shift;
+import com.example.nurseschedulingserver.event.ShiftsChangedEvent;
 import com.example.nurseschedulingserver.repository.ShiftRepository;
+import com.example.nurseschedulingserver.scheduling.ExchangeCycleFinder;
+import com.example.nurseschedulingserver.scheduling.ShiftExchangeExecutor;
+import com.example.nurseschedulingserver.scheduling.ShiftTimeline;
+import com.example.nurseschedulingserver.scheduling.SwapEngine;
 import com.example.nurseschedulingserver.service.interfaces.ShiftService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.Calendar;
-import java.util.Date;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
 public class ShiftServiceImpl implements ShiftService {
     private final ShiftRepository shiftRepository;
     private final NurseServiceImpl nurseService;
+    private final RosterIndexCache rosterIndexCache;
+    private final CoalescingShiftReader shiftReader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ShiftExchangeExecutor shiftExchangeExecutor;
 
     @Override
     public ShiftDto getShiftById(String id) {
         return shiftRepository.findShiftDtoById(id).orElseThrow(() -> new RuntimeException("Shift not found"));
     }
 
+    @Override
+    public List<ShiftDto> getShiftsByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return shiftRepository.findShiftDtosByIds(ids);
+    }
+
     @Override
     public ExchangeShiftDto exchangeShifts(ExchangeShiftDto exchangeShiftDto) {
-        Shift shift1 = shiftRepository.findById(exchangeShiftDto.getFirstShiftId()).orElseThrow(() -> new RuntimeException("Shift not found"));
-        Shift shift2 = shiftRepository.findById(exchangeShiftDto.getSecondShiftId()).orElseThrow(() -> new RuntimeException("Shift not found"));
+        return shiftExchangeExecutor.execute(() -> {
+            swapShiftNurses(exchangeShiftDto.getFirstShiftId(), exchangeShiftDto.getSecondShiftId(), false);
+            return exchangeShiftDto;
+        });
+    }
+
+    @Override
+    public List<Shift> swapShiftNurses(String firstShiftId, String secondShiftId, boolean validateRestRules) {
+        Shift shift1 = getShiftEntityById(firstShiftId);
+        Shift shift2 = getShiftEntityById(secondShiftId);
+        if (validateRestRules && !canSwap(shift1, shift2)) {
+            throw new RuntimeException("Shift exchange breaks rest rules");
+        }
+
+        int updated = shiftRepository.swapNurses(shift1.getId(), shift1.getNurseId(), shift1.getVersion(),
+                shift2.getId(), shift2.getNurseId(), shift2.getVersion());
+        if (updated != 2) {
+            throw new OptimisticLockingFailureException("Shifts were changed by another exchange");
+        }
 
         String tempNurseId = shift1.getNurseId();
         shift1.setNurseId(shift2.getNurseId());
         shift2.setNurseId(tempNurseId);
+        eventPublisher.publishEvent(new ShiftsChangedEvent(List.of(shift1, shift2)));
+        return List.of(shift1, shift2);
+    }
 
-        shiftRepository.save(shift1);
-        shiftRepository.save(shift2);
+    private boolean canSwap(Shift shift1, Shift shift2) {
+        ShiftTimeline firstNurseShifts = getNurseMonthTimeline(shift1);
+        ShiftTimeline secondNurseShifts = getNurseMonthTimeline(shift2);
+        int firstShift = firstNurseShifts.indexOf(shift1.getId());
+        int secondShift = secondNurseShifts.indexOf(shift2.getId());
+        if (firstShift == -1 || secondShift == -1) {
+            throw new RuntimeException("Shift not found");
+        }
+        return ExchangeCycleFinder.canSwap(firstNurseShifts, firstShift, secondNurseShifts, secondShift);
+    }
 
-        return exchangeShiftDto;
+    private ShiftTimeline getNurseMonthTimeline(Shift shift) {
+        NurseDto nurse = nurseService.getNurseById(shift.getNurseId());
+        YearMonth month = YearMonth.from(shift.getStartDate().toInstant().atZone(ZoneId.systemDefault()));
+        return ShiftTimeline.of(shiftRepository.findShiftsByNurseIdAndMonthAndYearAndDepartmentId(nurse.getId(),
+                month.getMonthValue(), month.getYear(), nurse.getDepartmentId()));
     }
 
     @Override
@@ -47,14 +107,19 @@ public class ShiftServiceImpl implements ShiftService {
         int monthInt = Integer.parseInt(month) + 1;
         int yearInt = Integer.parseInt(year);
         AuthProjection user = nurseService.getLoggedInUser();
-        return shiftRepository.findAllShiftsByMothAndYear(monthInt, yearInt, user.getDepartmentName());
+        return rosterIndexCache.getRoster(user.getDepartmentId(), YearMonth.of(yearInt, monthInt)).getShifts();
 
     }
 
     @Override
     public ShiftDto getLoggedInUserShiftsByDate(String date) {
         AuthProjection user = nurseService.getLoggedInUser();
-        return shiftRepository.findShiftsByNurseIdAndDate(user.getId(), date);
+        LocalDate localDate = parseDate(date);
+        if (localDate == null) {
+            return shiftRepository.findShiftsByNurseIdAndDate(user.getId(), date);
+        }
+        return rosterIndexCache.getRoster(user.getDepartmentId(), YearMonth.from(localDate))
+                .getShiftByNurseAndDay(user.getId(), localDate.getDayOfMonth() - 1);
     }
 
     @Override
@@ -63,8 +128,16 @@ public class ShiftServiceImpl implements ShiftService {
     }
 
     @Override
+    public List<Shift> getShiftEntitiesByIds(Collection<String> ids) {
+        return shiftRepository.findAllById(ids);
+    }
+
+    @Override
+    @Transactional
     public Shift saveShift(Shift shift) {
-        return shiftRepository.save(shift);
+        Shift savedShift = shiftRepository.save(shift);
+        eventPublisher.publishEvent(new ShiftsChangedEvent(List.of(savedShift)));
+        return savedShift;
     }
 
     @Override
@@ -72,136 +145,94 @@ public class ShiftServiceImpl implements ShiftService {
         NurseDto nurse = nurseService.getNurseById(id);
         int monthInt = Integer.parseInt(month);
         int yearInt = Integer.parseInt(year);
-        return shiftRepository.findShiftsByNurseIdAndMonthAndYearAndDepartmentName(nurse.getId(), monthInt, yearInt, nurse.getDepartmentName());
+        return rosterIndexCache.getRoster(nurse.getDepartmentId(), YearMonth.of(yearInt, monthInt)).getShiftsByNurse(nurse.getId());
     }
 
     @Override
+    public List<ShiftDto> getShiftsByNurseIdsAndMonth(Collection<String> nurseIds, int month, int year, String departmentId) {
+        if (nurseIds.isEmpty()) {
+            return List.of();
+        }
+        return shiftRepository.findShiftsByNurseIdInAndMonthAndYearAndDepartmentId(nurseIds, month, year, departmentId);
+    }
+
+    @Override
+    @Transactional
     public List<Shift> saveAll(List<Shift> shifts) {
-        return shiftRepository.saveAll(shifts);
+        List<Shift> savedShifts = shiftRepository.saveAll(shifts);
+        eventPublisher.publishEvent(new ShiftsChangedEvent(savedShifts));
+        return savedShifts;
     }
 
     public List<ShiftDto> getAvailableShiftsByShiftId(String shiftId, String selectedNurseId, String month, String year) {
         ShiftDto shift = getShiftById(shiftId);
-        long duration = (shift.getEndDate().getTime() - shift.getStartDate().getTime()) / (60 * 60 * 1000);
-
-        List<ShiftDto> nurseShifts = getShiftsByMonthAndYear(shift.getNurseId(), month, year);
-        List<ShiftDto> selectedNurseShifts = getShiftsByMonthAndYear(selectedNurseId, month, year);
-        List<ShiftDto> availableShifts = new ArrayList<>();
-
-        for (ShiftDto selectedNurseShift : selectedNurseShifts) {
-            if (isConflict(selectedNurseShift, shift, duration) ) {
-                return new ArrayList<>();
-            }
-            if(!isAvailableForSwap(selectedNurseShift, shift, duration)){
-                continue;
-            }
-            availableShifts.add(selectedNurseShift);
-        }
-
-        List<ShiftDto> finalAvailableShifts = new ArrayList<>(availableShifts);
-        for (ShiftDto nurseShift : nurseShifts) {
-            finalAvailableShifts.removeIf(availableShift -> isConflict(availableShift, nurseShift, duration));
+        ShiftTimeline requestedShift = ShiftTimeline.of(List.of(shift));
+        ShiftTimeline nurseShifts = ShiftTimeline.of(getShiftsByMonthAndYear(shift.getNurseId(), month, year));
+        ShiftTimeline selectedNurseShifts = ShiftTimeline.of(getShiftsByMonthAndYear(selectedNurseId, month, year));
+
+        int[] candidates = new int[selectedNurseShifts.size()];
+        int count = SwapEngine.findSwapCandidates(requestedShift, 0, nurseShifts, selectedNurseShifts, candidates);
+        List<ShiftDto> availableShifts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            availableShifts.add(selectedNurseShifts.getShift(candidates[i]));
         }
-
-        return finalAvailableShifts;
+        return availableShifts;
     }
 
-    private boolean isConflict(ShiftDto shift1, ShiftDto shift2, long duration) {
-        SimpleDateFormat sdf = new SimpleDateFormat("dd.MM.yyyy");
-        String shift1StartDate = sdf.format(shift1.getStartDate());
-        String shift1EndDate = sdf.format(shift1.getEndDate());
-        long shift1Duration = (shift1.getEndDate().getTime() - shift1.getStartDate().getTime()) / (60 * 60 * 1000);
-
-        String shift2StartDate = sdf.format(shift2.getStartDate());
-        String shift2EndDate = sdf.format(shift2.getEndDate());
-
-        if (shift1StartDate.equals(shift2StartDate) && shift1Duration == duration) {
-            return true;
-        }
-
-        if (shift1StartDate.equals(shift2StartDate) ||
-                shift1StartDate.equals(shift2EndDate) ||
-                shift1EndDate.equals(shift2EndDate) ||
-                shift1EndDate.equals(shift2StartDate)) {
-            return true;
-        }
-
-        if ((duration == 16 || duration == 24) && getPreviousDay(shift1.getStartDate(), 1).equals(shift2.getStartDate())) {
-            return true;
-        }
-        if (duration == 24 && getPreviousDay(shift1.getStartDate(), 2).equals(shift2.getStartDate())) {
-            return true;
-        }
-        if (duration == 16 && getNextDay(shift1.getStartDate(), 1).equals(shift2.getStartDate())) {
-            return true;
-        }
-        return duration == 24 && (getNextDay(shift1.getStartDate(), 1).equals(shift2.getStartDate()) || getNextDay(shift1.getStartDate(), 2).equals(shift2.getStartDate()));
+    @Override
+    public List<SwapPartnerDto> getSwapPartnersByShiftId(String shiftId, String month, String year) {
+        ShiftDto shift = getShiftById(shiftId);
+        NurseDto nurse = nurseService.getNurseById(shift.getNurseId());
+        RosterIndex roster = rosterIndexCache.getRoster(nurse.getDepartmentId(), YearMonth.of(Integer.parseInt(year), Integer.parseInt(month)));
+        ShiftTimeline requestedShift = ShiftTimeline.of(List.of(shift));
+        ShiftTimeline nurseShifts = ShiftTimeline.of(roster.getShiftsByNurse(nurse.getId()));
+        int ownerIndex = roster.getNurseIndex(nurse.getId());
+
+        return IntStream.range(0, roster.getNurseCount())
+                .parallel()
+                .filter(nurseIndex -> nurseIndex != ownerIndex)
+                .mapToObj(nurseIndex -> findSwapPartner(roster, nurseIndex, requestedShift, nurseShifts))
+                .filter(Objects::nonNull)
+                .toList();
     }
 
-    private boolean isAvailableForSwap(ShiftDto selectedNurseShift, ShiftDto shift, long duration) {
-        SimpleDateFormat sdf = new SimpleDateFormat("dd.MM.yyyy");
-        String selectedNurseShiftStartDate = sdf.format(selectedNurseShift.getStartDate());
-        String selectedNurseShiftEndDate = sdf.format(selectedNurseShift.getEndDate());
-        String shiftStartDate = sdf.format(shift.getStartDate());
-        String shiftEndDate = sdf.format(shift.getEndDate());
-        long selectedNurseShiftDuration = (selectedNurseShift.getEndDate().getTime() - selectedNurseShift.getStartDate().getTime()) / (60 * 60 * 1000);
-
-        if (selectedNurseShiftStartDate.equals(shiftStartDate) && duration == selectedNurseShiftDuration) {
-            return false;
+    private SwapPartnerDto findSwapPartner(RosterIndex roster, int nurseIndex, ShiftTimeline requestedShift, ShiftTimeline nurseShifts) {
+        ShiftTimeline selectedNurseShifts = ShiftTimeline.of(roster.getShiftsByNurse(nurseIndex));
+        int[] candidates = new int[selectedNurseShifts.size()];
+        int count = SwapEngine.findSwapCandidates(requestedShift, 0, nurseShifts, selectedNurseShifts, candidates);
+        if (count == 0) {
+            return null;
         }
-
-        if (selectedNurseShiftStartDate.equals(shiftStartDate) ||
-                selectedNurseShiftStartDate.equals(shiftEndDate) ||
-                selectedNurseShiftEndDate.equals(shiftEndDate) ||
-                selectedNurseShiftEndDate.equals(shiftStartDate)) {
-            return false;
-        }
-
-        if (getPreviousDay(shift.getStartDate(), 1).equals(selectedNurseShift.getStartDate())) {
-            if (selectedNurseShiftDuration == 16 || selectedNurseShiftDuration == 24) {
-                return false;
-            }
+        List<ShiftDto> availableShifts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            availableShifts.add(selectedNurseShifts.getShift(candidates[i]));
         }
-        if (getPreviousDay(shift.getStartDate(), 2).equals(selectedNurseShift.getStartDate())) {
-            if (selectedNurseShiftDuration == 24) {
-                return false;
-            }
-        }
-        if (duration == 16) {
-            if (getNextDay(shift.getStartDate(), 1).equals(selectedNurseShift.getStartDate())) {
-                return false;
-            }
-        }
-        if (duration == 24) {
-            return !getNextDay(shift.getStartDate(), 2).equals(selectedNurseShift.getStartDate()) && !getNextDay(shift.getStartDate(), 1).equals(selectedNurseShift.getStartDate());
-        }
-
-        return true;
-    }
-
-    public static Date getPreviousDay(Date date, int daysBefore) {
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTime(date);
-        calendar.add(Calendar.DAY_OF_MONTH, -daysBefore);
-        return calendar.getTime();
-    }
-
-    public static Date getNextDay(Date date, int daysAfter) {
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTime(date);
-        calendar.add(Calendar.DAY_OF_MONTH, daysAfter);
-        return calendar.getTime();
+        return new SwapPartnerDto(roster.getNurseId(nurseIndex), roster.getNurseFirstName(nurseIndex),
+                roster.getNurseLastName(nurseIndex), availableShifts);
     }
 
     @Override
     public List<ShiftDto> getNotLoggedInUsersShiftsByDate(String date) {
         AuthProjection user = nurseService.getLoggedInUser();
-        return shiftRepository.findAllShiftsByDate(date, user.getId(),user.getDepartmentName());
+        LocalDate localDate = parseDate(date);
+        if (localDate == null) {
+            return shiftReader.findAllShiftsByDate(date, user.getId(), user.getDepartmentId());
+        }
+        return rosterIndexCache.getRoster(user.getDepartmentId(), YearMonth.from(localDate))
+                .getShiftsByDayExcludingNurse(localDate.getDayOfMonth() - 1, user.getId());
+    }
+
+    private LocalDate parseDate(String date) {
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
     }
 
     @Override
     public List<ShiftDto> getShiftsByDepartmentAndDate(String departmentId,int month,int year ,int days) {
-        return shiftRepository.findShiftsByDepartmentNameAndDate(departmentId,month,year, days);
+        return shiftRepository.findShiftsByDepartmentIdAndDate(departmentId,month,year, days);
     }
 
 
@@ -1,18 +1,25 @@
 package com.example.nurseschedulingserver.service.implementations;
 
 import com.example.nurseschedulingserver.dto.auth.AuthProjection;
+import com.example.nurseschedulingserver.dto.workday.WorkDayAvailabilityDto;
+import com.example.nurseschedulingserver.dto.workday.WorkDayImportErrorDto;
+import com.example.nurseschedulingserver.dto.workday.WorkDayImportResultDto;
+import com.example.nurseschedulingserver.dto.workday.WorkDayImportRowDto;
 import com.example.nurseschedulingserver.dto.workday.WorkDayRequestDto;
 import com.example.nurseschedulingserver.dto.workday.WorkDayResponseDto;
+import com.example.nurseschedulingserver.entity.nurse.Nurse;
 import com.example.nurseschedulingserver.entity.workday.WorkDay;
+import com.example.nurseschedulingserver.repository.WorkDayImportRepository;
 import com.example.nurseschedulingserver.repository.WorkDayRepository;
 import com.example.nurseschedulingserver.service.interfaces.NurseService;
 import com.example.nurseschedulingserver.service.interfaces.WorkDayService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
 
 
 @Service
@@ -20,6 +27,8 @@ import java.util.Optional;
 public class WorkDayServiceImpl implements WorkDayService {
     private final WorkDayRepository workDayRepository;
     private final NurseService nurseService;
+    private final WorkDayImportRepository workDayImportRepository;
+
     @Override
     public WorkDayResponseDto saveWorkDays(WorkDayRequestDto workDays) {
         AuthProjection user = nurseService.getLoggedInUser();
@@ -57,9 +66,127 @@ public class WorkDayServiceImpl implements WorkDayService {
 
 
     @Override
-    public List<WorkDay> findWorkDayByMonthAndYear(int month, int year,String departmentId) {
-        return workDayRepository.findAllByMonthAndYearAndDepartmentId(month,year,departmentId);
+    public Map<String, Integer> findAvailableDaysByMonthAndYear(int month, int year, String departmentId) {
+        Map<String, Integer> availableDays = new HashMap<>();
+        for (WorkDayAvailabilityDto availability : workDayRepository.findAvailableDaysByMonthAndYearAndDepartmentId(month, year, departmentId)) {
+            availableDays.put(availability.getNurseId(), availability.getDays());
+        }
+        return availableDays;
+    }
+
+    @Override
+    @Transactional
+    public WorkDayImportResultDto importWorkDays(String month, String year, List<WorkDayImportRowDto> rows) {
+        long start = System.nanoTime();
+        List<ImportRow> importRows = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            importRows.add(new ImportRow(i + 1, rows.get(i)));
+        }
+        return importRows(YearMonth.of(Integer.parseInt(year), Integer.parseInt(month)), importRows, new ArrayList<>(), start);
+    }
+
+    @Override
+    @Transactional
+    public WorkDayImportResultDto importWorkDaysCsv(String month, String year, String csv) {
+        long start = System.nanoTime();
+        List<ImportRow> importRows = new ArrayList<>();
+        List<WorkDayImportErrorDto> errors = new ArrayList<>();
+        String[] lines = csv.split("\\r?\\n");
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i].strip();
+            if (line.isEmpty() || (importRows.isEmpty() && errors.isEmpty() && line.toLowerCase().startsWith("nurse"))) {
+                continue;
+            }
+            int separator = line.indexOf(',');
+            String nurse = (separator < 0 ? line : line.substring(0, separator)).strip();
+            String days = separator < 0 ? "" : line.substring(separator + 1).replace("\"", "").strip();
+            try {
+                List<Integer> dayNumbers = new ArrayList<>();
+                for (String day : days.isEmpty() ? new String[0] : days.split("[\\s,;]+")) {
+                    dayNumbers.add(Integer.parseInt(day));
+                }
+                importRows.add(new ImportRow(i + 1, new WorkDayImportRowDto(nurse, dayNumbers)));
+            } catch (NumberFormatException e) {
+                errors.add(new WorkDayImportErrorDto(i + 1, nurse, "Days must be day numbers of the month"));
+            }
+        }
+        return importRows(YearMonth.of(Integer.parseInt(year), Integer.parseInt(month)), importRows, errors, start);
+    }
+
+    private WorkDayImportResultDto importRows(YearMonth month, List<ImportRow> rows, List<WorkDayImportErrorDto> errors, long start) {
+        AuthProjection user = nurseService.getLoggedInUser();
+        Map<String, String> nurseIds = new HashMap<>();
+        for (Nurse nurse : nurseService.getNursesByDepartment(user.getDepartmentId())) {
+            nurseIds.put(nurse.getId(), nurse.getId());
+            if (nurse.getTcKimlikNo() != null) {
+                nurseIds.put(nurse.getTcKimlikNo(), nurse.getId());
+            }
+        }
+
+        Map<String, List<LocalDate>> datesByNurseId = new LinkedHashMap<>();
+        for (ImportRow row : rows) {
+            String error = validate(row.values(), month, nurseIds, datesByNurseId.keySet());
+            if (error != null) {
+                errors.add(new WorkDayImportErrorDto(row.number(), row.values().getNurse(), error));
+                continue;
+            }
+            datesByNurseId.put(nurseIds.get(row.values().getNurse().strip()), new TreeSet<>(row.values().getDays()).stream()
+                    .map(month::atDay)
+                    .toList());
+        }
+
+        if (!datesByNurseId.isEmpty()) {
+            Map<String, List<String>> existingWorkDayIds = workDayImportRepository.findWorkDayIdsByDepartmentIdAndMonth(user.getDepartmentId(), month);
+            List<String> replacedWorkDayIds = new ArrayList<>();
+            Map<String, String> newWorkDays = new LinkedHashMap<>();
+            Map<String, List<LocalDate>> datesByWorkDayId = new LinkedHashMap<>();
+            datesByNurseId.forEach((nurseId, dates) -> {
+                List<String> workDayIds = existingWorkDayIds.get(nurseId);
+                String workDayId;
+                if (workDayIds == null) {
+                    workDayId = UUID.randomUUID().toString();
+                    newWorkDays.put(workDayId, nurseId);
+                } else {
+                    workDayId = workDayIds.get(0);
+                    replacedWorkDayIds.addAll(workDayIds);
+                }
+                datesByWorkDayId.put(workDayId, dates);
+            });
+            workDayImportRepository.deleteWorkDatesInMonth(replacedWorkDayIds, month);
+            workDayImportRepository.touchWorkDays(replacedWorkDayIds);
+            workDayImportRepository.insertWorkDays(newWorkDays);
+            workDayImportRepository.insertWorkDates(datesByWorkDayId);
+        }
+
+        errors.sort(Comparator.comparingInt(WorkDayImportErrorDto::getRow));
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        long processed = datesByNurseId.size() + errors.size();
+        return new WorkDayImportResultDto(datesByNurseId.size(), errors.size(), errors, millis,
+                millis == 0 ? processed * 1000 : processed * 1000 / millis);
     }
 
+    private static String validate(WorkDayImportRowDto row, YearMonth month, Map<String, String> nurseIds, Set<String> importedNurseIds) {
+        if (row.getNurse() == null || row.getNurse().isBlank()) {
+            return "Nurse is missing";
+        }
+        String nurseId = nurseIds.get(row.getNurse().strip());
+        if (nurseId == null) {
+            return "Nurse not found in department";
+        }
+        if (importedNurseIds.contains(nurseId)) {
+            return "Nurse appears more than once";
+        }
+        if (row.getDays() == null) {
+            return "Days are missing";
+        }
+        for (Integer day : row.getDays()) {
+            if (day == null || day < 1 || day > month.lengthOfMonth()) {
+                return "Day " + day + " is not in " + month;
+            }
+        }
+        return null;
+    }
 
+    private record ImportRow(int number, WorkDayImportRowDto values) {
+    }
 }
@@ -0,0 +1,13 @@
+package com.example.nurseschedulingserver.service.interfaces;
+
+import com.example.nurseschedulingserver.dto.cache.CacheStatisticsDto;
+
+public interface CacheService {
+    CacheStatisticsDto getCacheStatistics();
+
+    void evictConstraint(String constraintId);
+
+    void evictNurses();
+
+    void evictAll();
+}
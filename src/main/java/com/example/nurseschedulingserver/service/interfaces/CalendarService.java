@@ -0,0 +1,7 @@
+package com.example.nurseschedulingserver.service.interfaces;
+
+import com.example.nurseschedulingserver.dto.calendar.CalendarFeedDto;
+
+public interface CalendarService {
+    CalendarFeedDto getLoggedInUserCalendarFeed();
+}
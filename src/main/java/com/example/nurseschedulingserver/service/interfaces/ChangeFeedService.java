@@ -0,0 +1,10 @@
+package com.example.nurseschedulingserver.service.interfaces;
+
+import com.example.nurseschedulingserver.dto.change.ChangeFeedDto;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface ChangeFeedService {
+    ChangeFeedDto getChanges(String since);
+
+    SseEmitter subscribe();
+}
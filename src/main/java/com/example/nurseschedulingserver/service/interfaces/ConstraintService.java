@@ -13,4 +13,6 @@ public interface ConstraintService {
 
     Constraint getConstraintByDepartmentName(String departmentId);
 
+    Constraint getConstraintByDepartmentId(String departmentId);
+
 }
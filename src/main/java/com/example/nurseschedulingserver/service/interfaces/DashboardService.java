@@ -0,0 +1,7 @@
+package com.example.nurseschedulingserver.service.interfaces;
+
+import com.example.nurseschedulingserver.dto.dashboard.MonthDashboardDto;
+
+public interface DashboardService {
+    MonthDashboardDto getMonthDashboard(String month, String year);
+}
@@ -9,4 +9,10 @@ public interface DepartmentService {
     Department getDepartmentByName(String name);
 
     List<Department> getAllDepartments();
+
+    String getDepartmentIdByName(String name);
+
+    Department saveDepartment(Department department);
+
+    void refreshDepartments();
 }
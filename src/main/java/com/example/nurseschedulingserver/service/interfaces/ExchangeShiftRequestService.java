@@ -1,18 +1,32 @@
 package com.example.nurseschedulingserver.service.interfaces;
 
+import com.example.nurseschedulingserver.dto.moderation.BulkStatusUpdateDto;
 import com.example.nurseschedulingserver.dto.shift.CreateExchangeShiftRequestDto;
+import com.example.nurseschedulingserver.dto.shift.ExchangeCycleDto;
 import com.example.nurseschedulingserver.dto.shift.ExchangeShiftRequestDto;
+import com.example.nurseschedulingserver.dto.shift.ExchangeShiftRequestUpdateDto;
 
+import java.time.YearMonth;
 import java.util.List;
 
 public interface ExchangeShiftRequestService {
 
-    List<ExchangeShiftRequestDto> getAllLoggedInUserExchangeShiftRequests();
+    List<ExchangeShiftRequestDto> getAllLoggedInUserExchangeShiftRequests(String after, int size);
+
+    long countLoggedInUserPendingExchangeShiftRequests();
+
+    long countPendingExchangeShiftRequests(String departmentId, YearMonth month);
 
     String  acceptExchangeShiftRequest(String id);
 
     String rejectExchangeShiftRequest(String id);
 
+    List<ExchangeShiftRequestUpdateDto> updateStatuses(BulkStatusUpdateDto bulkStatusUpdateDto);
+
 
     String createExchangeShiftRequest(CreateExchangeShiftRequestDto createExchangeShiftRequestDto);
+
+    List<ExchangeCycleDto> getExchangeCycles(String month, String year);
+
+    String acceptExchangeCycle(ExchangeCycleDto exchangeCycleDto);
 }
@@ -1,12 +1,22 @@
 package com.example.nurseschedulingserver.service.interfaces;
 
+import com.example.nurseschedulingserver.dto.moderation.BulkStatusUpdateDto;
 import com.example.nurseschedulingserver.dto.offday.OffDayResponseDto;
 import com.example.nurseschedulingserver.dto.offday.OffDayUpdateDto;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
 
 public interface OffDayService {
-    Page<OffDayResponseDto> getOffDaysAsPagination(Pageable pageable,String status);
+    List<OffDayResponseDto> getOffDays(String status, String after, int size);
 
     OffDayUpdateDto updateStatus(String id, String status) throws Exception;
+
+    List<OffDayUpdateDto> updateStatuses(BulkStatusUpdateDto bulkStatusUpdateDto);
+
+    Set<String> getNurseIdsOffOnDate(String departmentId, LocalDate date);
+
+    long countPendingOffDays(String departmentId, YearMonth month);
 }
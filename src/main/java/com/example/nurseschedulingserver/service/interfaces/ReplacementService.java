@@ -0,0 +1,10 @@
+package com.example.nurseschedulingserver.service.interfaces;
+
+import com.example.nurseschedulingserver.dto.replacement.ReplacementCandidateDto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ReplacementService {
+    List<ReplacementCandidateDto> getReplacements(String nurseId, LocalDate date);
+}
@@ -0,0 +1,11 @@
+package com.example.nurseschedulingserver.service.interfaces;
+
+import com.example.nurseschedulingserver.dto.validation.RosterValidationDto;
+
+import java.time.YearMonth;
+
+public interface RosterValidationService {
+    RosterValidationDto validateRoster(String month, String year);
+
+    RosterValidationDto validateRoster(String departmentId, YearMonth month);
+}
@@ -0,0 +1,19 @@
+package com.example.nurseschedulingserver.service.interfaces;
+
+import com.example.nurseschedulingserver.dto.version.ScheduleVersionDto;
+
+import java.time.YearMonth;
+
+public interface ScheduleVersionService {
+    ScheduleVersionDto getRosterVersion(String departmentId, YearMonth month, String nurseId);
+
+    ScheduleVersionDto getNurseListVersion(String department, String nurseId);
+
+    void rosterChanged(String departmentId, YearMonth month);
+
+    void rosterChanged(YearMonth month);
+
+    void rostersChanged();
+
+    void nursesChanged();
+}
@@ -0,0 +1,16 @@
+package com.example.nurseschedulingserver.service.interfaces;
+
+import com.example.nurseschedulingserver.dto.export.ExportStatisticsDto;
+import com.example.nurseschedulingserver.enums.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+public interface ShiftExportService {
+    void exportShifts(String departmentId, LocalDate from, LocalDate to, ExportFormat format, OutputStream outputStream) throws IOException;
+
+    void exportAllShifts(LocalDate from, LocalDate to, ExportFormat format, OutputStream outputStream) throws IOException;
+
+    ExportStatisticsDto getExportStatistics();
+}
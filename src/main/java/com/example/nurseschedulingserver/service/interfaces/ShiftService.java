@@ -2,16 +2,22 @@ package com.example.nurseschedulingserver.service.interfaces;
 
 import com.example.nurseschedulingserver.dto.shift.ExchangeShiftDto;
 import com.example.nurseschedulingserver.dto.shift.ShiftDto;
+import com.example.nurseschedulingserver.dto.shift.SwapPartnerDto;
 import com.example.nurseschedulingserver.entity.shift.Shift;
 
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ShiftService {
     ShiftDto getShiftById(String id);
 
+    List<ShiftDto> getShiftsByIds(Collection<String> ids);
+
     ExchangeShiftDto exchangeShifts(ExchangeShiftDto exchangeShiftDto);
 
+    List<Shift> swapShiftNurses(String firstShiftId, String secondShiftId, boolean validateRestRules);
+
     List<ShiftDto> getShifts(String month, String year);
 
     List<ShiftDto> getNotLoggedInUsersShiftsByDate(String date);
@@ -20,12 +26,18 @@ public interface ShiftService {
 
     Shift getShiftEntityById(String id);
 
+    List<Shift> getShiftEntitiesByIds(Collection<String> ids);
+
     Shift saveShift(Shift shift);
 
     List<ShiftDto> getShiftsByMonthAndYear(String id, String month, String year);
 
+    List<ShiftDto> getShiftsByNurseIdsAndMonth(Collection<String> nurseIds, int month, int year, String departmentId);
+
     List<Shift> saveAll(List<Shift> shifts);
 
     List<ShiftDto> getAvailableShiftsByShiftId(String shiftId,String nurseId, String month, String year);
+
+    List<SwapPartnerDto> getSwapPartnersByShiftId(String shiftId, String month, String year);
     List<ShiftDto> getShiftsByDepartmentAndDate(String departmentName,int month,int year ,int days);
 }
@@ -1,10 +1,12 @@
 package com.example.nurseschedulingserver.service.interfaces;
 
+import com.example.nurseschedulingserver.dto.workday.WorkDayImportResultDto;
+import com.example.nurseschedulingserver.dto.workday.WorkDayImportRowDto;
 import com.example.nurseschedulingserver.dto.workday.WorkDayRequestDto;
 import com.example.nurseschedulingserver.dto.workday.WorkDayResponseDto;
-import com.example.nurseschedulingserver.entity.workday.WorkDay;
 
 import java.util.List;
+import java.util.Map;
 
 
 public interface WorkDayService {
@@ -14,5 +16,9 @@ public interface WorkDayService {
     WorkDayResponseDto getWorkDays(String month, String year);
 
 
-    List<WorkDay> findWorkDayByMonthAndYear(int month, int year,String departmentId);
+    Map<String, Integer> findAvailableDaysByMonthAndYear(int month, int year, String departmentId);
+
+    WorkDayImportResultDto importWorkDays(String month, String year, List<WorkDayImportRowDto> rows);
+
+    WorkDayImportResultDto importWorkDaysCsv(String month, String year, String csv);
 }
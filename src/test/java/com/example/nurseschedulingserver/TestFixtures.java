@@ -0,0 +1,83 @@
+package com.example.nurseschedulingserver;
+
+import com.example.nurseschedulingserver.dto.shift.RosterShiftDto;
+import com.example.nurseschedulingserver.dto.shift.ShiftDto;
+import com.example.nurseschedulingserver.entity.nurse.Nurse;
+import com.example.nurseschedulingserver.entity.shift.Shift;
+import com.example.nurseschedulingserver.enums.Role;
+
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Shifts and nurses shared by the unit tests. Days are zero-based within the month and nurses
+ * use their id as first and last name.
+ */
+public final class TestFixtures {
+    private static final long HOUR_MILLIS = 60 * 60 * 1000;
+
+    private TestFixtures() {
+    }
+
+    public static Date start(YearMonth month, int day, int startHour) {
+        return Date.from(month.atDay(day + 1).atTime(startHour, 0).atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    public static ShiftDto shift(String id, String nurseId, YearMonth month, int day, int startHour, int hours) {
+        Date start = start(month, day, startHour);
+        return new RosterShiftDto(id, start, new Date(start.getTime() + hours * HOUR_MILLIS), nurseId, nurseId, nurseId);
+    }
+
+    /**
+     * A shift with id {@code <nurseId>-<day>}.
+     */
+    public static ShiftDto shift(String nurseId, YearMonth month, int day, int startHour, int hours) {
+        return shift(nurseId + "-" + day, nurseId, month, day, startHour, hours);
+    }
+
+    /**
+     * An 08:00-16:00 shift with id {@code <nurseId>-<day>}.
+     */
+    public static ShiftDto shift(String nurseId, YearMonth month, int day) {
+        return shift(nurseId, month, day, 8, 8);
+    }
+
+    /**
+     * A full month of 08:00-16:00 shifts for {@code nurses} nurses with random ids and distinct
+     * names, the shape of a department roster response.
+     */
+    public static List<ShiftDto> monthRoster(YearMonth month, int nurses) {
+        List<ShiftDto> shifts = new ArrayList<>(nurses * month.lengthOfMonth());
+        for (int n = 0; n < nurses; n++) {
+            String nurseId = UUID.randomUUID().toString();
+            for (int day = 0; day < month.lengthOfMonth(); day++) {
+                Date start = start(month, day, 8);
+                shifts.add(new RosterShiftDto(UUID.randomUUID().toString(), start, new Date(start.getTime() + 8 * HOUR_MILLIS),
+                        nurseId, "Ayşe" + n, "Yılmaz" + n));
+            }
+        }
+        return shifts;
+    }
+
+    public static Shift shiftEntity(ShiftDto dto) {
+        Shift shift = new Shift();
+        shift.setId(dto.getId());
+        shift.setNurseId(dto.getNurseId());
+        shift.setStartDate(dto.getStartDate());
+        shift.setEndDate(dto.getEndDate());
+        return shift;
+    }
+
+    public static Nurse nurse(String id, Role role) {
+        Nurse nurse = new Nurse();
+        nurse.setId(id);
+        nurse.setFirstName(id);
+        nurse.setLastName(id);
+        nurse.setRole(role);
+        return nurse;
+    }
+}
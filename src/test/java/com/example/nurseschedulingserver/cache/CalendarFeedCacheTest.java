@@ -0,0 +1,70 @@
+package com.example.nurseschedulingserver.cache;
+
+import com.example.nurseschedulingserver.dto.calendar.CalendarFeedDto;
+import com.example.nurseschedulingserver.dto.shift.ShiftDto;
+import com.example.nurseschedulingserver.entity.shift.Shift;
+import com.example.nurseschedulingserver.event.ShiftsChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.util.List;
+
+import static com.example.nurseschedulingserver.TestFixtures.shift;
+import static com.example.nurseschedulingserver.TestFixtures.shiftEntity;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CalendarFeedCacheTest {
+    private final YearMonth month = YearMonth.now();
+    private final RosterIndexCache rosterIndexCache = mock(RosterIndexCache.class);
+    private final CalendarFeedCache calendarFeedCache = new CalendarFeedCache(rosterIndexCache);
+
+    @Test
+    void reusesFeedUntilNurseShiftsChange() {
+        when(rosterIndexCache.getRoster(eq("d1"), any())).thenAnswer(invocation -> {
+            YearMonth rosterMonth = invocation.getArgument(1);
+            List<ShiftDto> shifts = rosterMonth.equals(month)
+                    ? List.of(shift("s1", "n1", month, 0, 8, 8), shift("s2", "n2", month, 0, 16, 16))
+                    : List.of();
+            return RosterIndex.build("d1", rosterMonth, shifts);
+        });
+
+        CalendarFeedDto feed = calendarFeedCache.getFeed("n1", "d1", "Acil; Servis");
+        String ics = new String(feed.getBody(), StandardCharsets.UTF_8);
+        assertTrue(ics.startsWith("BEGIN:VCALENDAR\r\n"));
+        assertTrue(ics.contains("UID:s1@nurse-scheduling\r\n"));
+        assertTrue(ics.contains("SUMMARY:Gündüz Vardiyası\r\n"));
+        assertTrue(ics.contains("LOCATION:Acil\\; Servis\r\n"));
+        assertFalse(ics.contains("s2@"));
+
+        assertSame(feed, calendarFeedCache.getFeed("n1", "d1", "Acil; Servis"));
+        calendarFeedCache.onShiftsChanged(new ShiftsChangedEvent(List.of(entity("s2", "n2"))));
+        assertSame(feed, calendarFeedCache.getFeed("n1", "d1", "Acil; Servis"));
+
+        calendarFeedCache.onShiftsChanged(new ShiftsChangedEvent(List.of(entity("s1", "n1"))));
+        CalendarFeedDto rebuilt = calendarFeedCache.getFeed("n1", "d1", "Acil; Servis");
+        assertNotSame(feed, rebuilt);
+        assertEquals(feed.getETag(), rebuilt.getETag());
+    }
+
+    @Test
+    void doesNotCacheFeedRenderedAcrossAnEviction() {
+        when(rosterIndexCache.getRoster(eq("d1"), any())).thenAnswer(invocation -> {
+            calendarFeedCache.evictNurse("n1");
+            return RosterIndex.build("d1", invocation.getArgument(1), List.of());
+        }).thenAnswer(invocation -> RosterIndex.build("d1", invocation.getArgument(1), List.of()));
+
+        CalendarFeedDto stale = calendarFeedCache.getFeed("n1", "d1", "Acil");
+        CalendarFeedDto fresh = calendarFeedCache.getFeed("n1", "d1", "Acil");
+
+        assertNotSame(stale, fresh);
+        assertSame(fresh, calendarFeedCache.getFeed("n1", "d1", "Acil"));
+    }
+
+    private Shift entity(String id, String nurseId) {
+        return shiftEntity(shift(id, nurseId, month, 0, 8, 8));
+    }
+}
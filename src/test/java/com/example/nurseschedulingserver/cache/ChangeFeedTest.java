@@ -0,0 +1,86 @@
+package com.example.nurseschedulingserver.cache;
+
+import com.example.nurseschedulingserver.enums.ChangeType;
+import com.example.nurseschedulingserver.event.OutboxMessageEvent;
+import com.example.nurseschedulingserver.notification.ChangeNotifier;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ChangeFeedTest {
+    private final ChangeNotifier changeNotifier = mock(ChangeNotifier.class);
+    private final ChangeFeed changeFeed = new ChangeFeed(changeNotifier);
+
+    @Test
+    void returnsOnlyChangesAfterSequence() {
+        ChangeToken start = changeFeed.getToken();
+        changeFeed.onOutboxMessage(new OutboxMessageEvent(1, "d1", ChangeType.SHIFT, List.of("s1", "s2"), List.of("n1"), new Date()));
+        ChangeToken afterShifts = changeFeed.getToken();
+        changeFeed.record("d1", ChangeType.OFF_DAY, List.of("o1"), List.of("n1"));
+        changeFeed.record("d2", ChangeType.OFF_DAY, List.of("o2"), List.of());
+
+        ChangeFeed.ChangeSet all = changeFeed.getChangesSince("d1", start.toString());
+        assertEquals(List.of("s1", "s2", "o1"), all.changes().stream().map(ChangeFeed.Change::id).toList());
+        ChangeFeed.ChangeSet delta = changeFeed.getChangesSince("d1", afterShifts.toString());
+        assertEquals(List.of("o1"), delta.changes().stream().map(ChangeFeed.Change::id).toList());
+        assertTrue(changeFeed.getChangesSince("d1", changeFeed.getToken().toString()).changes().isEmpty());
+        verify(changeNotifier).notifyDepartment("d1", afterShifts);
+        verify(changeNotifier).notifyNurses("d1", List.of("n1"), ChangeType.SHIFT, List.of("s1", "s2"), afterShifts);
+        verify(changeNotifier).notifyNurses("d1", List.of("n1"), ChangeType.OFF_DAY, List.of("o1"), new ChangeToken(afterShifts.epoch(), afterShifts.sequence() + 1));
+    }
+
+    @Test
+    void resyncInvalidatesEarlierPositions() {
+        changeFeed.record("d1", ChangeType.OFF_DAY, List.of("o1"), List.of());
+        ChangeToken before = changeFeed.getToken();
+
+        changeFeed.resync("d1");
+
+        assertNull(changeFeed.getChangesSince("d1", before.toString()));
+        assertNotNull(changeFeed.getChangesSince("d2", before.toString()));
+        assertTrue(changeFeed.getChangesSince("d1", changeFeed.getToken().toString()).changes().isEmpty());
+        verify(changeNotifier).notifyDepartment("d1", changeFeed.getToken());
+
+        changeFeed.resyncAll();
+
+        assertNull(changeFeed.getChangesSince("d2", before.toString()));
+        assertNotNull(changeFeed.getChangesSince("d2", changeFeed.getToken().toString()));
+        verify(changeNotifier).notifyAllDepartments(changeFeed.getToken());
+    }
+
+    @Test
+    void requiresResyncOnceChangesAreDropped() {
+        long start = changeFeed.getToken().sequence();
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i <= ChangeFeed.CAPACITY; i++) {
+            ids.add("o" + i);
+        }
+        changeFeed.record("d1", ChangeType.OFF_DAY, ids, List.of());
+
+        assertNull(changeFeed.getChangesSince("d1", token(start)));
+        assertEquals(ChangeFeed.CAPACITY, changeFeed.getChangesSince("d1", token(start + 1)).changes().size());
+        assertNull(changeFeed.getChangesSince("d1", token(start - 1)));
+        assertNull(changeFeed.getChangesSince("d1", token(changeFeed.getToken().sequence() + 1)));
+    }
+
+    @Test
+    void requiresResyncForTokensOfAnotherInstance() {
+        changeFeed.record("d1", ChangeType.OFF_DAY, List.of("o1"), List.of());
+        ChangeFeed otherInstance = new ChangeFeed(changeNotifier);
+
+        assertNull(otherInstance.getChangesSince("d1", changeFeed.getToken().toString()));
+        assertNull(changeFeed.getChangesSince("d1", "0"));
+        assertNull(changeFeed.getChangesSince("d1", "garbage"));
+        assertEquals(1, changeFeed.getChangesSince("d1", token(0)).changes().size());
+    }
+
+    private String token(long sequence) {
+        return new ChangeToken(changeFeed.getToken().epoch(), sequence).toString();
+    }
+}
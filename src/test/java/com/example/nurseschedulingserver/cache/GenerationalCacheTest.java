@@ -0,0 +1,37 @@
+package com.example.nurseschedulingserver.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class GenerationalCacheTest {
+    private final GenerationalCache<String, String> cache = new GenerationalCache<>();
+
+    @Test
+    void keepsValuesBuiltWithoutAnEviction() {
+        cache.put("a", "1", cache.generation());
+
+        assertEquals("1", cache.get("a"));
+    }
+
+    @Test
+    void dropsValuesBuiltAcrossAnEviction() {
+        long buildGeneration = cache.generation();
+        cache.evict("other");
+        cache.put("a", "1", buildGeneration);
+
+        assertNull(cache.get("a"));
+    }
+
+    @Test
+    void evictsMatchingEntries() {
+        cache.put("a", "1", cache.generation());
+        cache.put("b", "2", cache.generation());
+
+        cache.evictIf((key, value) -> value.equals("1"));
+
+        assertNull(cache.get("a"));
+        assertEquals("2", cache.get("b"));
+    }
+}
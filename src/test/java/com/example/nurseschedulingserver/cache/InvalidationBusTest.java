@@ -0,0 +1,99 @@
+package com.example.nurseschedulingserver.cache;
+
+import com.example.nurseschedulingserver.enums.ChangeType;
+import com.example.nurseschedulingserver.event.OutboxMessageEvent;
+import com.example.nurseschedulingserver.event.RequestsChangedEvent;
+import com.example.nurseschedulingserver.service.interfaces.CacheService;
+import com.example.nurseschedulingserver.service.interfaces.ScheduleVersionService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class InvalidationBusTest {
+    private final RosterIndexCache rosterIndexCache = mock(RosterIndexCache.class);
+    private final CalendarFeedCache calendarFeedCache = mock(CalendarFeedCache.class);
+    private final ScheduleVersionService scheduleVersionService = mock(ScheduleVersionService.class);
+    private final CacheService cacheService = mock(CacheService.class);
+    private final ChangeFeed changeFeed = mock(ChangeFeed.class);
+    private final DataSource dataSource = mock(DataSource.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final InvalidationBus invalidationBus = new InvalidationBus(dataSource, jdbcTemplate,
+            rosterIndexCache, calendarFeedCache, scheduleVersionService, cacheService, changeFeed);
+
+    @Test
+    void evictsEntriesNamedByRemoteMessages() {
+        invalidationBus.receive("other:R:2024-03");
+        invalidationBus.receive("other:C:c1");
+        invalidationBus.receive("other:N:");
+
+        verify(rosterIndexCache).evictMonth(YearMonth.of(2024, 3));
+        verify(calendarFeedCache).evictMonth(YearMonth.of(2024, 3));
+        verify(scheduleVersionService).rosterChanged(YearMonth.of(2024, 3));
+        verify(cacheService).evictConstraint("c1");
+        verify(cacheService).evictNurses();
+        verify(scheduleVersionService).nursesChanged();
+    }
+
+    @Test
+    void recordsFeedChangesFromOtherNodes() {
+        invalidationBus.receive("other:F:d1;SHIFT;s1,s2;n1");
+        invalidationBus.receive("other:F:d1;OFF_DAY;o1;");
+        invalidationBus.receive("other:D:d2");
+
+        verify(changeFeed).record("d1", ChangeType.SHIFT, List.of("s1", "s2"), List.of("n1"));
+        verify(changeFeed).record("d1", ChangeType.OFF_DAY, List.of("o1"), List.of());
+        verify(changeFeed).resync("d2");
+    }
+
+    @Test
+    void ignoresMalformedMessages() {
+        invalidationBus.receive("other");
+        invalidationBus.receive("other:X:key");
+        invalidationBus.receive("other:RR:2024-03");
+        invalidationBus.receive("other:F:d1;UNKNOWN;s1;n1");
+        invalidationBus.receive("other:F:d1;SHIFT");
+
+        verifyNoInteractions(rosterIndexCache, calendarFeedCache, scheduleVersionService, cacheService, changeFeed);
+    }
+
+    @Test
+    void relaysFeedChangesAndFallsBackToResyncWhenTooLarge() throws Exception {
+        Connection connection = mock(Connection.class);
+        when(connection.isWrapperFor(PGConnection.class)).thenReturn(true);
+        // The listener thread parks in getConnection until shutdown interrupts it.
+        when(dataSource.getConnection()).thenReturn(connection).thenAnswer(invocation -> {
+            Thread.sleep(Long.MAX_VALUE);
+            return null;
+        });
+        invalidationBus.start();
+        try {
+            invalidationBus.onRequestsChanged(new RequestsChangedEvent("d1", ChangeType.OFF_DAY, List.of("o1"), List.of("n1")));
+            List<String> ids = new ArrayList<>();
+            for (int i = 0; i < 300; i++) {
+                ids.add(UUID.randomUUID().toString());
+            }
+            invalidationBus.onOutboxMessage(new OutboxMessageEvent(1, "d1", ChangeType.SHIFT, ids, List.of("n1"), new Date()));
+        } finally {
+            invalidationBus.shutdown();
+        }
+
+        ArgumentCaptor<String> payloads = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(2)).queryForRowSet(anyString(), eq(InvalidationBus.CHANNEL), payloads.capture());
+        assertTrue(payloads.getAllValues().get(0).endsWith(":F:d1;OFF_DAY;o1;n1"));
+        assertTrue(payloads.getAllValues().get(1).endsWith(":D:d1"));
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.nurseschedulingserver.cache;
+
+import com.example.nurseschedulingserver.repository.ShiftRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.nurseschedulingserver.TestFixtures.shift;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RosterIndexCacheTest {
+    private static final YearMonth MONTH = YearMonth.of(2024, 3);
+
+    private final CoalescingShiftReader shiftReader = mock(CoalescingShiftReader.class);
+    private final RosterIndexCache rosterIndexCache = new RosterIndexCache(shiftReader);
+
+    @Test
+    void keepsRosterUntilMonthIsEvicted() {
+        when(shiftReader.findAllShiftsByMonthAndYear(eq(3), eq(2024), eq("d1"), anyLong())).thenReturn(List.of());
+
+        RosterIndex roster = rosterIndexCache.getRoster("d1", MONTH);
+        assertSame(roster, rosterIndexCache.getRoster("d1", MONTH));
+
+        rosterIndexCache.evictMonth(MONTH);
+        assertNotSame(roster, rosterIndexCache.getRoster("d1", MONTH));
+        verify(shiftReader, times(2)).findAllShiftsByMonthAndYear(eq(3), eq(2024), eq("d1"), anyLong());
+    }
+
+    @Test
+    void doesNotCacheRosterLoadedAcrossAnEviction() {
+        when(shiftReader.findAllShiftsByMonthAndYear(eq(3), eq(2024), eq("d1"), anyLong())).thenAnswer(invocation -> {
+            rosterIndexCache.evictMonth(MONTH);
+            return List.of();
+        }).thenReturn(List.of());
+
+        RosterIndex stale = rosterIndexCache.getRoster("d1", MONTH);
+        RosterIndex fresh = rosterIndexCache.getRoster("d1", MONTH);
+
+        assertNotSame(stale, fresh);
+        assertSame(fresh, rosterIndexCache.getRoster("d1", MONTH));
+    }
+
+    @Test
+    void doesNotJoinAQueryStartedBeforeAnEviction() throws Exception {
+        ShiftRepository shiftRepository = mock(ShiftRepository.class);
+        RosterIndexCache rosterIndexCache = new RosterIndexCache(new CoalescingShiftReader(shiftRepository));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(shiftRepository.findAllShiftsByMothAndYear(3, 2024, "d1")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return List.of(shift("stale", MONTH, 0));
+        }).thenReturn(List.of(shift("fresh", MONTH, 0)));
+
+        CompletableFuture<RosterIndex> leader = CompletableFuture.supplyAsync(() -> rosterIndexCache.getRoster("d1", MONTH));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        rosterIndexCache.evictMonth(MONTH);
+        CompletableFuture<RosterIndex> follower = CompletableFuture.supplyAsync(() -> rosterIndexCache.getRoster("d1", MONTH));
+
+        try {
+            assertEquals("fresh", follower.get(5, TimeUnit.SECONDS).getShifts().get(0).getNurseId());
+        } finally {
+            release.countDown();
+        }
+        assertEquals("stale", leader.get(5, TimeUnit.SECONDS).getShifts().get(0).getNurseId());
+        assertSame(follower.get(), rosterIndexCache.getRoster("d1", MONTH));
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.nurseschedulingserver.configuration;
+
+import com.example.nurseschedulingserver.controller.ShiftController;
+import com.example.nurseschedulingserver.service.interfaces.NurseService;
+import com.example.nurseschedulingserver.service.interfaces.RosterValidationService;
+import com.example.nurseschedulingserver.service.interfaces.ScheduleVersionService;
+import com.example.nurseschedulingserver.service.interfaces.ShiftService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static com.example.nurseschedulingserver.TestFixtures.shift;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class CompactRosterHttpMessageConverterTest {
+    private static final YearMonth MONTH = YearMonth.of(2024, 3);
+    private final ShiftService shiftService = mock(ShiftService.class);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(new ShiftController(shiftService, mock(ScheduleVersionService.class), mock(NurseService.class), mock(RosterValidationService.class)))
+                .setMessageConverters(new CompactRosterHttpMessageConverter(objectMapper), new MappingJackson2HttpMessageConverter(objectMapper))
+                .build();
+        when(shiftService.getNotLoggedInUsersShiftsByDate("05.03.2024")).thenReturn(List.of(
+                shift("s1", "a", MONTH, 4, 8, 8), shift("s2", "b", MONTH, 4, 16, 16), shift("s3", "a", MONTH, 9, 8, 24)));
+    }
+
+    @Test
+    void writesCompactRosterWhenRequested() throws Exception {
+        mockMvc.perform(get("/api/shifts/other-shifts").param("date", "05.03.2024").accept(CompactRosterHttpMessageConverter.COMPACT_ROSTER))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CompactRosterHttpMessageConverter.COMPACT_ROSTER))
+                .andExpect(jsonPath("$.from").value("2024-03-01"))
+                .andExpect(jsonPath("$.nurses.length()").value(2))
+                .andExpect(jsonPath("$.nurses[1].id").value("b"))
+                .andExpect(jsonPath("$.shiftIds[2]").value("s3"))
+                .andExpect(jsonPath("$.shifts[1]").value(contains(1, 4, 1)))
+                .andExpect(jsonPath("$.shifts[2]").value(contains(0, 9, 2)));
+    }
+
+    @Test
+    void keepsPlainShiftListByDefault() throws Exception {
+        mockMvc.perform(get("/api/shifts/other-shifts").param("date", "05.03.2024").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].nurseFirstName").value("a"));
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.nurseschedulingserver.configuration;
+
+import com.example.nurseschedulingserver.controller.ShiftController;
+import com.example.nurseschedulingserver.dto.shift.ShiftDto;
+import com.example.nurseschedulingserver.dto.workday.WorkDayResponseDto;
+import com.example.nurseschedulingserver.service.interfaces.NurseService;
+import com.example.nurseschedulingserver.service.interfaces.RosterValidationService;
+import com.example.nurseschedulingserver.service.interfaces.ScheduleVersionService;
+import com.example.nurseschedulingserver.service.interfaces.ShiftService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnknownFieldSet;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.lang.reflect.Type;
+import java.time.YearMonth;
+import java.util.Date;
+import java.util.List;
+
+import static com.example.nurseschedulingserver.TestFixtures.monthRoster;
+import static com.example.nurseschedulingserver.TestFixtures.shift;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ProtobufDtoHttpMessageConverterTest {
+    private static final YearMonth MONTH = YearMonth.of(2024, 3);
+    private static final Type SHIFT_LIST = new ParameterizedTypeReference<List<ShiftDto>>() {}.getType();
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+    private final ProtobufDtoHttpMessageConverter converter = new ProtobufDtoHttpMessageConverter();
+
+    @Test
+    void servesProtobufOnlyWhenRequested() throws Exception {
+        ShiftService shiftService = mock(ShiftService.class);
+        List<ShiftDto> shifts = List.of(shift("s1", "a", MONTH, 4, 8, 8), shift("s2", "b", MONTH, 5, 8, 8));
+        when(shiftService.getNotLoggedInUsersShiftsByDate("05.03.2024")).thenReturn(shifts);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new ShiftController(shiftService, mock(ScheduleVersionService.class), mock(NurseService.class), mock(RosterValidationService.class)))
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper), converter)
+                .build();
+
+        byte[] body = mockMvc.perform(get("/api/shifts/other-shifts").param("date", "05.03.2024").accept(ProtobufDtoHttpMessageConverter.PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(ProtobufDtoHttpMessageConverter.PROTOBUF))
+                .andReturn().getResponse().getContentAsByteArray();
+        List<ByteString> messages = UnknownFieldSet.parseFrom(body).getField(1).getLengthDelimitedList();
+        assertEquals(2, messages.size());
+        UnknownFieldSet second = UnknownFieldSet.parseFrom(messages.get(1));
+        assertEquals("s2", second.getField(1).getLengthDelimitedList().get(0).toStringUtf8());
+        assertEquals(shifts.get(1).getStartDate().getTime(), second.getField(2).getVarintList().get(0));
+        assertEquals("b", second.getField(4).getLengthDelimitedList().get(0).toStringUtf8());
+
+        mockMvc.perform(get("/api/shifts/other-shifts").param("date", "05.03.2024").accept(MediaType.ALL))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void encodesWorkDayDatesAsPackedMillis() throws Exception {
+        Date first = new Date(1_709_251_200_000L);
+        Date second = new Date(1_709_337_600_000L);
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(new WorkDayResponseDto("w1", List.of(first, second), "a", null), WorkDayResponseDto.class,
+                ProtobufDtoHttpMessageConverter.PROTOBUF, output);
+
+        UnknownFieldSet workDay = UnknownFieldSet.parseFrom(output.getBodyAsBytes());
+        assertEquals("w1", workDay.getField(1).getLengthDelimitedList().get(0).toStringUtf8());
+        assertEquals("a", workDay.getField(3).getLengthDelimitedList().get(0).toStringUtf8());
+        assertTrue(workDay.getField(4).getLengthDelimitedList().isEmpty());
+    }
+
+    @Test
+    void encodesMonthRosterInLessThanHalfOfJson() throws Exception {
+        List<ShiftDto> shifts = monthRoster(MONTH, 30);
+        MockHttpOutputMessage jsonOutput = new MockHttpOutputMessage();
+        new MappingJackson2HttpMessageConverter(objectMapper).write(shifts, SHIFT_LIST, MediaType.APPLICATION_JSON, jsonOutput);
+        MockHttpOutputMessage protobufOutput = new MockHttpOutputMessage();
+        converter.write(shifts, SHIFT_LIST, ProtobufDtoHttpMessageConverter.PROTOBUF, protobufOutput);
+
+        int jsonBytes = jsonOutput.getBodyAsBytes().length;
+        int protobufBytes = protobufOutput.getBodyAsBytes().length;
+        assertTrue(protobufBytes * 2 < jsonBytes, protobufBytes + " vs " + jsonBytes);
+    }
+}
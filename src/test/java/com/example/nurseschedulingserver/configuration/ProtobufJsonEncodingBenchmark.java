@@ -0,0 +1,59 @@
+package com.example.nurseschedulingserver.configuration;
+
+import com.example.nurseschedulingserver.dto.shift.ShiftDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.lang.reflect.Type;
+import java.time.YearMonth;
+import java.util.List;
+
+import static com.example.nurseschedulingserver.TestFixtures.monthRoster;
+
+/**
+ * Compares encode time and body size of the JSON and protobuf month roster responses. Excluded
+ * from the default test run; use {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class ProtobufJsonEncodingBenchmark {
+    private static final Type SHIFT_LIST = new ParameterizedTypeReference<List<ShiftDto>>() {}.getType();
+    private static final int NURSES = 30;
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 5_000;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+    private final List<ShiftDto> roster = monthRoster(YearMonth.of(2024, 3), NURSES);
+
+    @Test
+    void encodeMonthRoster() throws Exception {
+        report("json", new MappingJackson2HttpMessageConverter(objectMapper), MediaType.APPLICATION_JSON);
+        report("protobuf", new ProtobufDtoHttpMessageConverter(), ProtobufDtoHttpMessageConverter.PROTOBUF);
+    }
+
+    private void report(String name, GenericHttpMessageConverter<Object> converter, MediaType mediaType) throws Exception {
+        int bytes = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            bytes = encode(converter, mediaType);
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            encode(converter, mediaType);
+        }
+        double micros = (System.nanoTime() - started) / 1_000.0 / MEASURED_ITERATIONS;
+        System.out.printf("%-8s %d shifts: %,d bytes, %.1f us/op%n", name, roster.size(), bytes, micros);
+    }
+
+    private int encode(GenericHttpMessageConverter<Object> converter, MediaType mediaType) throws Exception {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(roster, SHIFT_LIST, mediaType, output);
+        return output.getBodyAsBytes().length;
+    }
+}
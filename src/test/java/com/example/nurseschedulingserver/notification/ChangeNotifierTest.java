@@ -0,0 +1,123 @@
+package com.example.nurseschedulingserver.notification;
+
+import com.example.nurseschedulingserver.cache.ChangeToken;
+import com.example.nurseschedulingserver.enums.ChangeType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class ChangeNotifierTest {
+    private final ChangeNotifier changeNotifier = new ChangeNotifier();
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new StreamController()).build();
+
+    @AfterEach
+    void tearDown() {
+        changeNotifier.shutdown();
+    }
+
+    @Test
+    void pushesDepartmentAndNurseEvents() throws Exception {
+        MockHttpServletResponse nurse = mockMvc.perform(get("/stream/n1")).andExpect(request().asyncStarted()).andReturn().getResponse();
+        MockHttpServletResponse colleague = mockMvc.perform(get("/stream/n2")).andExpect(request().asyncStarted()).andReturn().getResponse();
+        assertEquals(2, changeNotifier.getConnectionCount());
+
+        changeNotifier.notifyNurses("d1", List.of("n1"), ChangeType.OFF_DAY, List.of("o1"), new ChangeToken("e", 7));
+        changeNotifier.notifyDepartment("d1", new ChangeToken("e", 7));
+        changeNotifier.notifyDepartment("d2", new ChangeToken("e", 8));
+        awaitContent(nurse, "data:e.7");
+        awaitContent(colleague, "data:e.7");
+
+        changeNotifier.sendHeartbeats();
+        awaitContent(colleague, ":heartbeat");
+        String nurseEvents = nurse.getContentAsString();
+        assertTrue(nurseEvents.contains("event:my-change"), nurseEvents);
+        assertTrue(nurseEvents.contains("\"ids\":[\"o1\"]"), nurseEvents);
+        assertFalse(colleague.getContentAsString().contains("my-change"));
+        assertFalse(colleague.getContentAsString().contains("data:e.8"));
+    }
+
+    @Test
+    void dropsStalledConnectionsWithoutHoldingBackOthers() throws Exception {
+        CountDownLatch sending = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        for (String nurseId : List.of("n1", "n2")) {
+            changeNotifier.subscribe(blockingEmitter(sending, release), nurseId, "d1", new ChangeToken("e", 5));
+        }
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+        MockHttpServletResponse colleague = mockMvc.perform(get("/stream/n3")).andExpect(request().asyncStarted()).andReturn().getResponse();
+
+        changeNotifier.dropStalledConnections(System.currentTimeMillis() + ChangeNotifier.SEND_TIMEOUT_MILLIS + 1);
+
+        assertEquals(1, changeNotifier.getConnectionCount());
+        awaitContent(colleague, "data:e.5");
+        release.countDown();
+    }
+
+    @Test
+    void heartbeatsForABlockedClientDoNotPinSenderThreads() throws Exception {
+        CountDownLatch sending = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        changeNotifier.subscribe(blockingEmitter(sending, release), "n1", "d1", new ChangeToken("e", 5));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (sending.getCount() == 2) {
+            assertTrue(System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+        for (int i = 0; i < 3; i++) {
+            changeNotifier.sendHeartbeats();
+        }
+        MockHttpServletResponse colleague = mockMvc.perform(get("/stream/n3")).andExpect(request().asyncStarted()).andReturn().getResponse();
+
+        changeNotifier.notifyDepartment("d1", new ChangeToken("e", 6));
+
+        awaitContent(colleague, "data:e.6");
+        release.countDown();
+        assertTrue(sending.await(5, TimeUnit.SECONDS), "the heartbeat left pending during the blocked send was never sent");
+    }
+
+    private static SseEmitter blockingEmitter(CountDownLatch sending, CountDownLatch release) {
+        return new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                sending.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.send(builder);
+            }
+        };
+    }
+
+    private static void awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!response.getContentAsString().contains(expected)) {
+            assertTrue(System.currentTimeMillis() < deadline, response.getContentAsString());
+            Thread.sleep(10);
+        }
+    }
+
+    @RestController
+    class StreamController {
+        @GetMapping("/stream/{nurseId}")
+        SseEmitter stream(@PathVariable String nurseId) {
+            return changeNotifier.subscribe(nurseId, "d1", new ChangeToken("e", 5));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.nurseschedulingserver.outbox;
+
+import com.example.nurseschedulingserver.entity.outbox.OutboxEvent;
+import com.example.nurseschedulingserver.enums.ChangeType;
+import com.example.nurseschedulingserver.event.OutboxMessageEvent;
+import com.example.nurseschedulingserver.repository.OutboxEventRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class OutboxDispatcherTest {
+    private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+    private final List<OutboxMessageEvent> published = new ArrayList<>();
+
+    @Test
+    void holdsBackDepartmentAfterFailedDelivery() {
+        when(outboxEventRepository.findBatch(OutboxDispatcher.BATCH_SIZE)).thenReturn(List.of(
+                outboxEvent(1, "d1", "s1,s2"), outboxEvent(2, "d2", "s3"), outboxEvent(3, "d1", "s4"), outboxEvent(4, "d2", "s5")));
+        ApplicationEventPublisher eventPublisher = event -> {
+            OutboxMessageEvent message = (OutboxMessageEvent) event;
+            if (message.getId() == 2) {
+                throw new IllegalStateException("consumer down");
+            }
+            published.add(message);
+        };
+        OutboxDispatcher dispatcher = new OutboxDispatcher(outboxEventRepository, eventPublisher, mock(TransactionTemplate.class));
+
+        assertEquals(2, dispatcher.drain());
+
+        assertEquals(List.of(1L, 3L), published.stream().map(OutboxMessageEvent::getId).toList());
+        assertEquals(List.of("s1", "s2"), published.get(0).getIds());
+        assertEquals(List.of("n1"), published.get(0).getNurseIds());
+        verify(outboxEventRepository).deleteByIdIn(List.of(1L, 3L));
+    }
+
+    private static OutboxEvent outboxEvent(long id, String departmentId, String ids) {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setId(id);
+        outboxEvent.setDepartmentId(departmentId);
+        outboxEvent.setType(ChangeType.SHIFT);
+        outboxEvent.setIds(ids);
+        outboxEvent.setNurseIds("n1");
+        return outboxEvent;
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.nurseschedulingserver.repository;
+
+import com.example.nurseschedulingserver.dto.shift.ExchangeShiftRequestDto;
+import com.example.nurseschedulingserver.entity.nurse.Nurse;
+import com.example.nurseschedulingserver.entity.shift.ExchangeShiftRequest;
+import com.example.nurseschedulingserver.entity.shift.Shift;
+import com.example.nurseschedulingserver.enums.RequestStatus;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@TestPropertySource(properties = {"spring.jpa.database=H2", "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=false"})
+class ExchangeShiftRequestRepositoryTest {
+    private static final LocalDate MONTH = LocalDate.of(2024, 3, 1);
+
+    @Autowired
+    private ExchangeShiftRequestRepository exchangeShiftRequestRepository;
+    @Autowired
+    private ShiftRepository shiftRepository;
+    @Autowired
+    private NurseRepository nurseRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private String inboxNurseId;
+    private String otherNurseId;
+    private Shift otherShift;
+    private final List<String> requestIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        inboxNurseId = saveNurse("Ayşe", "Yılmaz", "d1");
+        otherNurseId = saveNurse("Fatma", "Demir", "d1");
+        otherShift = saveShift(otherNurseId, 20);
+        for (int day = 0; day < 5; day++) {
+            ExchangeShiftRequest request = new ExchangeShiftRequest();
+            request.setRequesterShiftId(saveShift(inboxNurseId, day).getId());
+            request.setRequestedShiftId(otherShift.getId());
+            request.setStatus(RequestStatus.PENDING);
+            requestIds.add(exchangeShiftRequestRepository.save(request).getId());
+        }
+        exchangeShiftRequestRepository.flush();
+        exchangeShiftRequestRepository.backfillInbox();
+    }
+
+    @Test
+    void pagesInboxByKeyset() {
+        List<ExchangeShiftRequestDto> firstPage = exchangeShiftRequestRepository.findInbox(inboxNurseId, from(), to(), 2);
+        ExchangeShiftRequestDto last = firstPage.get(firstPage.size() - 1);
+        ExchangeShiftRequest cursor = exchangeShiftRequestRepository.findById(last.getId()).orElseThrow();
+        List<ExchangeShiftRequestDto> rest = exchangeShiftRequestRepository.findInboxAfter(inboxNurseId, from(), to(),
+                cursor.getRequesterShiftStartDate(), cursor.getId(), 10);
+
+        List<String> ids = new ArrayList<>();
+        firstPage.forEach(request -> ids.add(request.getId()));
+        rest.forEach(request -> ids.add(request.getId()));
+        assertEquals(2, firstPage.size());
+        assertEquals(5, ids.stream().distinct().count());
+        assertEquals("Fatma Demir", last.getRequesterFullName());
+        assertEquals("Ayşe Yılmaz", last.getRequestedFullName());
+        assertEquals(5, exchangeShiftRequestRepository.countInbox(inboxNurseId, from(), to()));
+        assertEquals(0, exchangeShiftRequestRepository.countInbox(otherNurseId, from(), to()));
+    }
+
+    @Test
+    void refreshesNursesOfChangedShifts() {
+        // Left unflushed, like the swaps the accept paths save right before refreshing.
+        otherShift.setNurseId(inboxNurseId);
+        shiftRepository.save(otherShift);
+
+        exchangeShiftRequestRepository.refreshRequestedShiftNurses(List.of(otherShift.getId()));
+
+        ExchangeShiftRequestDto request = exchangeShiftRequestRepository.findInbox(inboxNurseId, from(), to(), 1).get(0);
+        assertEquals("Ayşe Yılmaz", request.getRequesterFullName());
+    }
+
+    @Test
+    void findsRequestsOfDepartmentOnly() {
+        ExchangeShiftRequest foreignRequest = new ExchangeShiftRequest();
+        foreignRequest.setRequesterShiftId(saveShift(saveNurse("Zeynep", "Kaya", "d2"), 6).getId());
+        foreignRequest.setRequestedShiftId(otherShift.getId());
+        foreignRequest.setStatus(RequestStatus.PENDING);
+        List<String> ids = new ArrayList<>(requestIds);
+        ids.add(exchangeShiftRequestRepository.save(foreignRequest).getId());
+
+        List<String> found = exchangeShiftRequestRepository.findAllByIdInAndDepartmentId(ids, "d1").stream().map(ExchangeShiftRequest::getId).toList();
+
+        assertEquals(new HashSet<>(requestIds), new HashSet<>(found));
+        assertTrue(exchangeShiftRequestRepository.findAllByIdInAndDepartmentId(ids, "d2").isEmpty());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void nativeUpdatesKeepUnrelatedCacheRegions() {
+        Cache cache = entityManagerFactory.getCache();
+        nurseRepository.findById(inboxNurseId);
+        assertTrue(cache.contains(Nurse.class, inboxNurseId));
+
+        Shift shift = shiftRepository.findById(otherShift.getId()).orElseThrow();
+        Shift inboxShift = shiftRepository.findById(exchangeShiftRequestRepository.findById(requestIds.get(0)).orElseThrow().getRequesterShiftId()).orElseThrow();
+        transactionTemplate.executeWithoutResult(status -> {
+            assertEquals(2, shiftRepository.swapNurses(shift.getId(), shift.getNurseId(), shift.getVersion(),
+                    inboxShift.getId(), inboxShift.getNurseId(), inboxShift.getVersion()));
+            assertEquals(1, exchangeShiftRequestRepository.updateStatusIfPending(requestIds.get(0), RequestStatus.ACCEPTED.name()));
+            exchangeShiftRequestRepository.refreshRequesterShiftNurses(List.of(inboxShift.getId()));
+            exchangeShiftRequestRepository.refreshRequestedShiftNurses(List.of(shift.getId()));
+            exchangeShiftRequestRepository.backfillInbox();
+            assertEquals(1, exchangeShiftRequestRepository.updateStatusesIfPending(requestIds.subList(1, 2), RequestStatus.REJECTED.name()));
+        });
+
+        assertTrue(cache.contains(Nurse.class, inboxNurseId));
+    }
+
+    private String saveNurse(String firstName, String lastName, String departmentId) {
+        Nurse nurse = new Nurse();
+        nurse.setFirstName(firstName);
+        nurse.setLastName(lastName);
+        nurse.setDepartmentId(departmentId);
+        return nurseRepository.save(nurse).getId();
+    }
+
+    private Shift saveShift(String nurseId, int day) {
+        Shift shift = new Shift();
+        shift.setNurseId(nurseId);
+        shift.setStartDate(toDate(MONTH.plusDays(day)));
+        shift.setEndDate(toDate(MONTH.plusDays(day + 1)));
+        return shiftRepository.save(shift);
+    }
+
+    private static Date from() {
+        return toDate(MONTH);
+    }
+
+    private static Date to() {
+        return toDate(MONTH.plusMonths(1));
+    }
+
+    private static Date toDate(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
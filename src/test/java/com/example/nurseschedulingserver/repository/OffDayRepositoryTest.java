@@ -0,0 +1,83 @@
+package com.example.nurseschedulingserver.repository;
+
+import com.example.nurseschedulingserver.entity.nurse.Nurse;
+import com.example.nurseschedulingserver.entity.offday.OffDay;
+import com.example.nurseschedulingserver.enums.RequestStatus;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@TestPropertySource(properties = {"spring.jpa.database=H2", "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=false"})
+class OffDayRepositoryTest {
+    @Autowired
+    private OffDayRepository offDayRepository;
+    @Autowired
+    private NurseRepository nurseRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private String nurseId;
+    private String offDayId;
+
+    @BeforeEach
+    void setUp() {
+        Nurse nurse = new Nurse();
+        nurse.setFirstName("Ayşe");
+        nurse.setDepartmentId("d1");
+        nurseId = nurseRepository.save(nurse).getId();
+        OffDay offDay = new OffDay();
+        offDay.setNurseId(nurseId);
+        offDay.setDate(LocalDate.of(2024, 3, 1));
+        offDay.setStatus(RequestStatus.PENDING);
+        offDayId = offDayRepository.save(offDay).getId();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void nativeUpdatesKeepUnrelatedCacheRegions() {
+        Cache cache = entityManagerFactory.getCache();
+        nurseRepository.findById(nurseId);
+        assertTrue(cache.contains(Nurse.class, nurseId));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            offDayRepository.backfillDepartmentIds();
+            offDayRepository.updateStatuses(List.of(offDayId), RequestStatus.ACCEPTED.name());
+        });
+
+        assertTrue(cache.contains(Nurse.class, nurseId));
+        OffDay offDay = offDayRepository.findById(offDayId).orElseThrow();
+        assertEquals("d1", offDay.getDepartmentId());
+        assertEquals(RequestStatus.ACCEPTED, offDay.getStatus());
+    }
+
+    @Test
+    void findsIdsOfDepartmentOnly() {
+        OffDay foreignOffDay = new OffDay();
+        foreignOffDay.setNurseId(nurseId);
+        foreignOffDay.setDepartmentId("d2");
+        foreignOffDay.setDate(LocalDate.of(2024, 3, 2));
+        foreignOffDay.setStatus(RequestStatus.PENDING);
+        String foreignOffDayId = offDayRepository.save(foreignOffDay).getId();
+        offDayRepository.backfillDepartmentIds();
+
+        assertEquals(List.of(offDayId), offDayRepository.findIdsByIdInAndDepartmentId(List.of(offDayId, foreignOffDayId), "d1"));
+        assertEquals(List.of(foreignOffDayId), offDayRepository.findIdsByIdInAndDepartmentId(List.of(offDayId, foreignOffDayId), "d2"));
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.nurseschedulingserver.scheduling;
+
+import com.example.nurseschedulingserver.dto.shift.PendingExchangeDto;
+import com.example.nurseschedulingserver.dto.shift.ShiftDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.*;
+
+import static com.example.nurseschedulingserver.TestFixtures.shift;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExchangeCycleFinderTest {
+    private static final YearMonth MONTH = YearMonth.of(2024, 3);
+
+    @Test
+    void findsThreeWayCycle() {
+        Map<String, ShiftTimeline> nurseShifts = Map.of(
+                "a", ShiftTimeline.of(List.of(shift("a", MONTH, 4), shift("a", MONTH, 20))),
+                "b", ShiftTimeline.of(List.of(shift("b", MONTH, 9))),
+                "c", ShiftTimeline.of(List.of(shift("c", MONTH, 14))));
+        List<PendingExchangeDto> requests = List.of(
+                request("r1", "a", 4, "b", 9),
+                request("r2", "b", 9, "c", 14),
+                request("r3", "c", 14, "a", 4));
+
+        List<List<PendingExchangeDto>> cycles = ExchangeCycleFinder.findCycles(requests, nurseShifts, 3, 4);
+
+        assertEquals(1, cycles.size());
+        assertEquals(List.of("r1", "r2", "r3"), cycles.get(0).stream().map(PendingExchangeDto::getId).toList());
+    }
+
+    @Test
+    void skipsCycleBreakingRestRules() {
+        Map<String, ShiftTimeline> nurseShifts = Map.of(
+                "a", ShiftTimeline.of(List.of(shift("a", MONTH, 4), shift("a", MONTH, 9))),
+                "b", ShiftTimeline.of(List.of(shift("b", MONTH, 9))),
+                "c", ShiftTimeline.of(List.of(shift("c", MONTH, 14))));
+        List<PendingExchangeDto> requests = List.of(
+                request("r1", "a", 4, "b", 9),
+                request("r2", "b", 9, "c", 14),
+                request("r3", "c", 14, "a", 4));
+
+        assertTrue(ExchangeCycleFinder.findCycles(requests, nurseShifts, 3, 4).isEmpty());
+    }
+
+    @Test
+    void searchesBusyDepartmentQuickly() {
+        Random random = new Random(7);
+        Map<String, ShiftTimeline> nurseShifts = new HashMap<>();
+        Map<String, List<Integer>> nurseDays = new HashMap<>();
+        for (int n = 0; n < 100; n++) {
+            String nurseId = "n" + n;
+            List<ShiftDto> shifts = new ArrayList<>();
+            List<Integer> days = new ArrayList<>();
+            for (int day = n % 3; day < MONTH.lengthOfMonth(); day += 3) {
+                shifts.add(shift(nurseId, MONTH, day));
+                days.add(day);
+            }
+            nurseShifts.put(nurseId, ShiftTimeline.of(shifts));
+            nurseDays.put(nurseId, days);
+        }
+        List<String[]> offers = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            String nurseId = "n" + random.nextInt(100);
+            List<Integer> days = nurseDays.get(nurseId);
+            offers.add(new String[]{nurseId, String.valueOf(days.get(random.nextInt(days.size())))});
+        }
+        List<PendingExchangeDto> requests = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            String[] offered = offers.get(random.nextInt(offers.size()));
+            String[] wanted = offers.get(random.nextInt(offers.size()));
+            requests.add(request("r" + i, offered[0], Integer.parseInt(offered[1]), wanted[0], Integer.parseInt(wanted[1])));
+        }
+
+        long start = System.nanoTime();
+        List<List<PendingExchangeDto>> cycles = ExchangeCycleFinder.findCycles(requests, nurseShifts, 3, 4);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertFalse(cycles.isEmpty());
+        assertTrue(elapsedMillis < 1000, "took " + elapsedMillis + " ms");
+        for (List<PendingExchangeDto> cycle : cycles) {
+            for (int i = 0; i < cycle.size(); i++) {
+                assertEquals(cycle.get(i).getRequestedShiftId(), cycle.get((i + 1) % cycle.size()).getRequesterShiftId());
+            }
+        }
+    }
+
+    private static PendingExchangeDto request(String id, String requesterNurseId, int requesterDay, String requestedNurseId, int requestedDay) {
+        return new PendingExchangeDto() {
+            public String getId() {
+                return id;
+            }
+
+            public String getRequesterShiftId() {
+                return requesterNurseId + "-" + requesterDay;
+            }
+
+            public String getRequesterNurseId() {
+                return requesterNurseId;
+            }
+
+            public String getRequestedShiftId() {
+                return requestedNurseId + "-" + requestedDay;
+            }
+
+            public String getRequestedNurseId() {
+                return requestedNurseId;
+            }
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.nurseschedulingserver.scheduling;
+
+import com.example.nurseschedulingserver.cache.RosterIndex;
+import com.example.nurseschedulingserver.dto.replacement.ReplacementCandidateDto;
+import com.example.nurseschedulingserver.entity.nurse.Nurse;
+import com.example.nurseschedulingserver.enums.Role;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.example.nurseschedulingserver.TestFixtures.nurse;
+import static com.example.nurseschedulingserver.TestFixtures.shift;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReplacementFinderTest {
+    private static final YearMonth MONTH = YearMonth.of(2024, 3);
+
+    @Test
+    void ranksEligibleNursesByScheduledHours() {
+        RosterIndex roster = RosterIndex.build("d", MONTH, List.of(
+                shift("absent", MONTH, 10, 8, 8),
+                shift("busy", MONTH, 2, 8, 8), shift("busy", MONTH, 4, 8, 8),
+                shift("idle", MONTH, 20, 8, 8),
+                shift("resting", MONTH, 9, 8, 16),
+                shift("sameDay", MONTH, 10, 16, 8)));
+        List<Nurse> nurses = List.of(nurse("absent", Role.NURSE), nurse("busy", Role.NURSE), nurse("idle", Role.NURSE),
+                nurse("resting", Role.NURSE), nurse("sameDay", Role.NURSE), nurse("charge", Role.CHARGE),
+                nurse("off", Role.NURSE), nurse("unavailable", Role.NURSE), nurse("fresh", Role.NURSE));
+
+        List<ReplacementCandidateDto> candidates = ReplacementFinder.findReplacements(roster,
+                roster.getShiftByNurseAndDay("absent", 10), nurses, Map.of("unavailable", 1 << 3), Set.of("off"));
+
+        assertEquals(List.of("fresh", "idle", "busy"), candidates.stream().map(ReplacementCandidateDto::getNurseId).toList());
+        assertEquals(16, candidates.get(2).getScheduledHours());
+        assertEquals(WorkingHours.getMinimumWorkingHours(MONTH), candidates.get(0).getMinimumWorkingHours());
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.example.nurseschedulingserver.scheduling;
+
+import com.example.nurseschedulingserver.TestFixtures;
+import com.example.nurseschedulingserver.cache.RosterIndex;
+import com.example.nurseschedulingserver.dto.shift.ShiftDto;
+import com.example.nurseschedulingserver.dto.validation.RestViolationDto;
+import com.example.nurseschedulingserver.dto.validation.RosterValidationDto;
+import com.example.nurseschedulingserver.dto.validation.UnderstaffedShiftDto;
+import com.example.nurseschedulingserver.entity.constraint.Constraint;
+import com.example.nurseschedulingserver.enums.RestViolationType;
+import com.example.nurseschedulingserver.enums.Role;
+import com.example.nurseschedulingserver.enums.ShiftType;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.nurseschedulingserver.TestFixtures.nurse;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RosterValidatorTest {
+    private static final YearMonth MONTH = YearMonth.of(2024, 3);
+
+    @Test
+    void reportsRestViolationsAcrossMonthBoundary() {
+        RosterIndex previous = RosterIndex.build("d", MONTH.minusMonths(1), List.of(shift(MONTH.minusMonths(1), "a", 27, ShiftType.FULL)));
+        RosterIndex roster = RosterIndex.build("d", MONTH, List.of(
+                shift(MONTH, "a", 0, ShiftType.DAY),
+                shift(MONTH, "b", 3, ShiftType.NIGHT), shift(MONTH, "b", 4, ShiftType.DAY),
+                shift(MONTH, "c", 10, ShiftType.FULL), shift(MONTH, "c", 12, ShiftType.FULL),
+                shift(MONTH, "d", 6, ShiftType.DAY), shift(MONTH, "d", 6, ShiftType.NIGHT)));
+
+        RosterValidationDto validation = RosterValidator.validate(roster, previous, null, List.of());
+
+        assertEquals(List.of("a:0:NO_REST_AFTER_FULL", "b:4:NO_REST_AFTER_NIGHT", "c:12:NO_REST_AFTER_FULL", "d:6:DOUBLE_SHIFT"),
+                validation.getRestViolations().stream().map(RosterValidatorTest::describe).toList());
+        assertTrue(validation.getUnderstaffedShifts().isEmpty());
+    }
+
+    @Test
+    void reportsUnderstaffedShiftsAndMissingHours() {
+        List<ShiftDto> shifts = new ArrayList<>();
+        for (int day = 0; day < MONTH.lengthOfMonth(); day++) {
+            if (WorkingHours.isWeekend(MONTH.atDay(day + 1))) {
+                shifts.add(shift(MONTH, "full" + day % 3, day, ShiftType.FULL));
+            } else {
+                shifts.add(shift(MONTH, "charge", day, ShiftType.DAY));
+                if (day != 4) {
+                    shifts.add(shift(MONTH, "night" + day % 2, day, ShiftType.NIGHT));
+                }
+            }
+        }
+        RosterIndex roster = RosterIndex.build("d", MONTH, shifts);
+        Constraint constraint = new Constraint();
+        constraint.setMinimumNursesForEachShift(List.of(1, 1, 1));
+
+        RosterValidationDto validation = RosterValidator.validate(roster, null, constraint,
+                List.of(nurse("charge", Role.CHARGE), nurse("night0", Role.NURSE), nurse("idle", Role.NURSE)));
+
+        assertEquals(1, validation.getUnderstaffedShifts().size());
+        UnderstaffedShiftDto understaffed = validation.getUnderstaffedShifts().get(0);
+        assertEquals(MONTH.atDay(5), understaffed.getDate());
+        assertEquals(ShiftType.NIGHT, understaffed.getShiftType());
+        assertEquals(List.of("night0", "idle"), validation.getNursesUnderMinimumHours().stream().map(h -> h.getNurseId()).toList());
+        assertFalse(validation.isValid());
+    }
+
+    @Test
+    void validatesLargeDepartmentQuickly() {
+        List<ShiftDto> shifts = new ArrayList<>();
+        for (int n = 0; n < 200; n++) {
+            for (int day = n % 3; day < MONTH.lengthOfMonth(); day += 3) {
+                shifts.add(shift(MONTH, "n" + n, day, ShiftType.values()[n % 3]));
+            }
+        }
+        RosterIndex roster = RosterIndex.build("d", MONTH, shifts);
+        Constraint constraint = new Constraint();
+        constraint.setMinimumNursesForEachShift(List.of(20, 20, 20));
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            RosterValidator.validate(roster, null, constraint, List.of());
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMillis < 1000, "took " + elapsedMillis + " ms");
+    }
+
+    private static String describe(RestViolationDto violation) {
+        return violation.getNurseId() + ":" + (violation.getDate().getDayOfMonth() - 1) + ":" + violation.getType();
+    }
+
+    private static ShiftDto shift(YearMonth month, String nurseId, int day, ShiftType shiftType) {
+        return TestFixtures.shift(nurseId + "-" + day + "-" + shiftType, nurseId, month, day, shiftType.getStartHour(), shiftType.getDurationHours());
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.nurseschedulingserver.scheduling;
+
+import com.example.nurseschedulingserver.dto.shift.ShiftDto;
+import org.junit.jupiter.api.Test;
+
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+
+import static com.example.nurseschedulingserver.TestFixtures.shift;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SwapEngineTest {
+    private static final int[][] SHIFT_SHAPES = {{8, 8}, {16, 16}, {8, 24}, {0, 8}};
+
+    @Test
+    void findSwapCandidatesMatchesLegacyRules() {
+        Random random = new Random(42);
+        LocalDate month = LocalDate.of(2024, 3, 1);
+        for (int run = 0; run < 2000; run++) {
+            List<ShiftDto> ownerShifts = randomShifts(random, "owner", month);
+            List<ShiftDto> otherShifts = randomShifts(random, "other", month);
+            if (ownerShifts.isEmpty()) {
+                continue;
+            }
+            ShiftDto requested = ownerShifts.get(random.nextInt(ownerShifts.size()));
+
+            ShiftTimeline other = ShiftTimeline.of(otherShifts);
+            int[] candidates = new int[other.size()];
+            int count = SwapEngine.findSwapCandidates(ShiftTimeline.of(List.of(requested)), 0,
+                    ShiftTimeline.of(ownerShifts), other, candidates);
+            List<String> actual = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                actual.add(other.getShift(candidates[i]).getId());
+            }
+
+            List<String> expected = legacyAvailableShifts(requested, ownerShifts, otherShifts).stream()
+                    .map(ShiftDto::getId).toList();
+            assertEquals(expected, actual, "run " + run);
+        }
+    }
+
+    private static List<ShiftDto> randomShifts(Random random, String nurseId, LocalDate month) {
+        List<ShiftDto> shifts = new ArrayList<>();
+        for (int day = 0; day < month.lengthOfMonth(); day++) {
+            if (random.nextInt(4) != 0) {
+                continue;
+            }
+            int[] shape = SHIFT_SHAPES[random.nextInt(SHIFT_SHAPES.length)];
+            shifts.add(shift(nurseId, YearMonth.from(month), day, shape[0], shape[1]));
+        }
+        return shifts;
+    }
+
+    private static List<ShiftDto> legacyAvailableShifts(ShiftDto shift, List<ShiftDto> nurseShifts, List<ShiftDto> selectedNurseShifts) {
+        long duration = (shift.getEndDate().getTime() - shift.getStartDate().getTime()) / (60 * 60 * 1000);
+        List<ShiftDto> availableShifts = new ArrayList<>();
+        for (ShiftDto selectedNurseShift : selectedNurseShifts) {
+            if (legacyIsConflict(selectedNurseShift, shift, duration)) {
+                return new ArrayList<>();
+            }
+            if (!legacyIsAvailableForSwap(selectedNurseShift, shift, duration)) {
+                continue;
+            }
+            availableShifts.add(selectedNurseShift);
+        }
+        for (ShiftDto nurseShift : nurseShifts) {
+            availableShifts.removeIf(availableShift -> legacyIsConflict(availableShift, nurseShift, duration));
+        }
+        return availableShifts;
+    }
+
+    private static boolean legacyIsConflict(ShiftDto shift1, ShiftDto shift2, long duration) {
+        SimpleDateFormat sdf = new SimpleDateFormat("dd.MM.yyyy");
+        String shift1StartDate = sdf.format(shift1.getStartDate());
+        String shift1EndDate = sdf.format(shift1.getEndDate());
+        String shift2StartDate = sdf.format(shift2.getStartDate());
+        String shift2EndDate = sdf.format(shift2.getEndDate());
+        if (shift1StartDate.equals(shift2StartDate) ||
+                shift1StartDate.equals(shift2EndDate) ||
+                shift1EndDate.equals(shift2EndDate) ||
+                shift1EndDate.equals(shift2StartDate)) {
+            return true;
+        }
+        if ((duration == 16 || duration == 24) && addDays(shift1.getStartDate(), -1).equals(shift2.getStartDate())) {
+            return true;
+        }
+        if (duration == 24 && addDays(shift1.getStartDate(), -2).equals(shift2.getStartDate())) {
+            return true;
+        }
+        if (duration == 16 && addDays(shift1.getStartDate(), 1).equals(shift2.getStartDate())) {
+            return true;
+        }
+        return duration == 24 && (addDays(shift1.getStartDate(), 1).equals(shift2.getStartDate()) || addDays(shift1.getStartDate(), 2).equals(shift2.getStartDate()));
+    }
+
+    private static boolean legacyIsAvailableForSwap(ShiftDto selectedNurseShift, ShiftDto shift, long duration) {
+        SimpleDateFormat sdf = new SimpleDateFormat("dd.MM.yyyy");
+        String selectedNurseShiftStartDate = sdf.format(selectedNurseShift.getStartDate());
+        String selectedNurseShiftEndDate = sdf.format(selectedNurseShift.getEndDate());
+        String shiftStartDate = sdf.format(shift.getStartDate());
+        String shiftEndDate = sdf.format(shift.getEndDate());
+        long selectedNurseShiftDuration = (selectedNurseShift.getEndDate().getTime() - selectedNurseShift.getStartDate().getTime()) / (60 * 60 * 1000);
+        if (selectedNurseShiftStartDate.equals(shiftStartDate) ||
+                selectedNurseShiftStartDate.equals(shiftEndDate) ||
+                selectedNurseShiftEndDate.equals(shiftEndDate) ||
+                selectedNurseShiftEndDate.equals(shiftStartDate)) {
+            return false;
+        }
+        if (addDays(shift.getStartDate(), -1).equals(selectedNurseShift.getStartDate())
+                && (selectedNurseShiftDuration == 16 || selectedNurseShiftDuration == 24)) {
+            return false;
+        }
+        if (addDays(shift.getStartDate(), -2).equals(selectedNurseShift.getStartDate()) && selectedNurseShiftDuration == 24) {
+            return false;
+        }
+        if (duration == 16 && addDays(shift.getStartDate(), 1).equals(selectedNurseShift.getStartDate())) {
+            return false;
+        }
+        if (duration == 24) {
+            return !addDays(shift.getStartDate(), 2).equals(selectedNurseShift.getStartDate()) && !addDays(shift.getStartDate(), 1).equals(selectedNurseShift.getStartDate());
+        }
+        return true;
+    }
+
+    private static Date addDays(Date date, int days) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTime(date);
+        calendar.add(Calendar.DAY_OF_MONTH, days);
+        return calendar.getTime();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.nurseschedulingserver.service.implementations;
+
+import com.example.nurseschedulingserver.entity.department.Department;
+import com.example.nurseschedulingserver.repository.DepartmentRepository;
+import com.example.nurseschedulingserver.service.interfaces.CacheService;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.*;
+
+class DepartmentServiceImplTest {
+    private final DepartmentRepository departmentRepository = mock(DepartmentRepository.class);
+    private final DepartmentServiceImpl departmentService = new DepartmentServiceImpl(departmentRepository, mock(CacheService.class));
+
+    @Test
+    void unknownNamesDoNotReloadDepartmentsOnEveryLookup() {
+        Department department = new Department();
+        department.setId("d1");
+        department.setName("Cardiology");
+        when(departmentRepository.findAll()).thenReturn(List.of(department));
+
+        assertEquals("d1", departmentService.getDepartmentIdByName("Cardiology"));
+        for (int i = 0; i < 100; i++) {
+            assertNull(departmentService.getDepartmentIdByName("Unknown " + i));
+        }
+        verify(departmentRepository, times(1)).findAll();
+    }
+
+    @Test
+    void savedDepartmentsAreFoundImmediately() {
+        Department department = new Department();
+        department.setId("d1");
+        department.setName("Cardiology");
+        when(departmentRepository.findAll()).thenReturn(List.of());
+        assertNull(departmentService.getDepartmentIdByName("Cardiology"));
+
+        when(departmentRepository.save(department)).thenReturn(department);
+        when(departmentRepository.findAll()).thenReturn(List.of(department));
+        departmentService.saveDepartment(department);
+        assertEquals("d1", departmentService.getDepartmentIdByName("Cardiology"));
+    }
+}
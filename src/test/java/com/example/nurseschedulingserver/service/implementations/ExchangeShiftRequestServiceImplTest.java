@@ -0,0 +1,145 @@
+package com.example.nurseschedulingserver.service.implementations;
+
+import com.example.nurseschedulingserver.cache.RosterIndexCache;
+import com.example.nurseschedulingserver.dto.auth.AuthProjection;
+import com.example.nurseschedulingserver.dto.moderation.BulkStatusUpdateDto;
+import com.example.nurseschedulingserver.dto.nurse.NurseDto;
+import com.example.nurseschedulingserver.dto.shift.ExchangeCycleDto;
+import com.example.nurseschedulingserver.dto.shift.ExchangeShiftRequestUpdateDto;
+import com.example.nurseschedulingserver.entity.shift.ExchangeShiftRequest;
+import com.example.nurseschedulingserver.entity.shift.Shift;
+import com.example.nurseschedulingserver.enums.RequestStatus;
+import com.example.nurseschedulingserver.event.RequestsChangedEvent;
+import com.example.nurseschedulingserver.repository.ExchangeShiftRequestRepository;
+import com.example.nurseschedulingserver.scheduling.ShiftExchangeExecutor;
+import com.example.nurseschedulingserver.service.interfaces.NurseService;
+import com.example.nurseschedulingserver.service.interfaces.ShiftService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.YearMonth;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static com.example.nurseschedulingserver.TestFixtures.shift;
+import static com.example.nurseschedulingserver.TestFixtures.shiftEntity;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ExchangeShiftRequestServiceImplTest {
+    private static final YearMonth MONTH = YearMonth.of(2024, 3);
+    private final ExchangeShiftRequestRepository exchangeShiftRequestRepository = mock(ExchangeShiftRequestRepository.class);
+    private final NurseService nurseService = mock(NurseService.class);
+    private final ShiftService shiftService = mock(ShiftService.class);
+    private final ShiftExchangeExecutor shiftExchangeExecutor = mock(ShiftExchangeExecutor.class);
+    private final RosterIndexCache rosterIndexCache = mock(RosterIndexCache.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final ExchangeShiftRequestServiceImpl exchangeShiftRequestService = new ExchangeShiftRequestServiceImpl(exchangeShiftRequestRepository,
+            nurseService, shiftService, rosterIndexCache, shiftExchangeExecutor, eventPublisher);
+
+    @BeforeEach
+    void setUp() {
+        AuthProjection user = mock(AuthProjection.class);
+        when(user.getDepartmentId()).thenReturn("d1");
+        when(nurseService.getLoggedInUser()).thenReturn(user);
+        when(shiftExchangeExecutor.execute(any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+    }
+
+    @Test
+    void rejectsCyclesShorterThanThreeRequests() {
+        for (List<String> requestIds : List.of(List.<String>of(), List.of("r1", "r2"), List.of("r1", "r2", "r1"))) {
+            RuntimeException e = assertThrows(RuntimeException.class,
+                    () -> exchangeShiftRequestService.acceptExchangeCycle(new ExchangeCycleDto(requestIds)));
+            assertEquals("Exchange cycle needs at least 3 distinct requests", e.getMessage());
+        }
+        assertThrows(RuntimeException.class, () -> exchangeShiftRequestService.acceptExchangeCycle(new ExchangeCycleDto(null)));
+        verifyNoInteractions(exchangeShiftRequestRepository, shiftService);
+    }
+
+    @Test
+    void bulkUpdatesTreatRequestsFromAnotherDepartmentAsNotFound() {
+        ExchangeShiftRequest request = new ExchangeShiftRequest();
+        request.setId("r1");
+        request.setStatus(RequestStatus.PENDING);
+        request.setRequesterShiftNurseId("n1");
+        request.setRequestedShiftNurseId("n2");
+        when(exchangeShiftRequestRepository.findAllByIdInAndDepartmentId(List.of("r1", "r2"), "d1")).thenReturn(List.of(request));
+        when(exchangeShiftRequestRepository.updateStatusesIfPending(List.of("r1"), RequestStatus.REJECTED.name())).thenReturn(1);
+
+        List<ExchangeShiftRequestUpdateDto> rejected = exchangeShiftRequestService.updateStatuses(bulkUpdate(RequestStatus.REJECTED, "r1", "r2"));
+        assertEquals(RequestStatus.REJECTED.name(), rejected.get(0).getStatus());
+        assertEquals("Exchange shift request not found", rejected.get(1).getErrorMessage());
+        ArgumentCaptor<RequestsChangedEvent> event = ArgumentCaptor.forClass(RequestsChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(List.of("r1"), event.getValue().getIds());
+        assertEquals(Set.of("n1", "n2"), Set.copyOf(event.getValue().getNurseIds()));
+
+        when(exchangeShiftRequestRepository.findAllByIdInAndDepartmentId(List.of("r2"), "d1")).thenReturn(List.of());
+        List<ExchangeShiftRequestUpdateDto> accepted = exchangeShiftRequestService.updateStatuses(bulkUpdate(RequestStatus.ACCEPTED, "r2"));
+        assertEquals("Exchange shift request not found", accepted.get(0).getErrorMessage());
+        verify(exchangeShiftRequestRepository, never()).findAllById(any());
+        verify(shiftService, never()).saveAll(any());
+    }
+
+    @Test
+    void bulkAcceptChecksRestRulesAgainstTheDatabase() {
+        ExchangeShiftRequest request = new ExchangeShiftRequest();
+        request.setId("r1");
+        request.setStatus(RequestStatus.PENDING);
+        request.setRequesterShiftId("n1-0");
+        request.setRequestedShiftId("n2-1");
+        when(exchangeShiftRequestRepository.findAllByIdInAndDepartmentId(List.of("r1"), "d1")).thenReturn(List.of(request));
+        when(shiftService.getShiftEntitiesByIds(any())).thenReturn(List.of(shiftEntity(shift("n1", MONTH, 0)), shiftEntity(shift("n2", MONTH, 1))));
+        // n2 already works day 0, so taking over n1's shift would double-book them.
+        when(shiftService.getShiftsByNurseIdsAndMonth(any(), eq(3), eq(2024), eq("d1")))
+                .thenReturn(List.of(shift("n1", MONTH, 0), shift("n2", MONTH, 1), shift("n2", MONTH, 0)));
+
+        List<ExchangeShiftRequestUpdateDto> accepted = exchangeShiftRequestService.updateStatuses(bulkUpdate(RequestStatus.ACCEPTED, "r1"));
+
+        assertEquals("Shift exchange breaks rest rules", accepted.get(0).getErrorMessage());
+        verify(shiftService, never()).saveAll(any());
+        verifyNoInteractions(rosterIndexCache);
+    }
+
+    @Test
+    void treatsRequestsFromAnotherDepartmentAsNotFound() {
+        for (String id : List.of("r1", "r2", "r3")) {
+            ExchangeShiftRequest request = new ExchangeShiftRequest();
+            request.setId(id);
+            request.setRequesterShiftId("shift-" + id);
+            request.setStatus(RequestStatus.PENDING);
+            when(exchangeShiftRequestRepository.findById(id)).thenReturn(Optional.of(request));
+        }
+        when(shiftService.getShiftEntityById(anyString())).thenAnswer(invocation -> {
+            Shift shift = new Shift();
+            shift.setId(invocation.getArgument(0));
+            shift.setNurseId("n2");
+            shift.setStartDate(new Date());
+            return shift;
+        });
+        NurseDto foreignNurse = mock(NurseDto.class);
+        when(foreignNurse.getDepartmentId()).thenReturn("d2");
+        when(nurseService.getNurseById("n2")).thenReturn(foreignNurse);
+
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> exchangeShiftRequestService.acceptExchangeCycle(new ExchangeCycleDto(List.of("r1", "r2", "r3"))));
+        assertEquals("Exchange shift request not found", e.getMessage());
+        verify(shiftService, never()).saveAll(any());
+    }
+
+    private BulkStatusUpdateDto bulkUpdate(RequestStatus status, String... ids) {
+        BulkStatusUpdateDto bulkStatusUpdateDto = new BulkStatusUpdateDto();
+        bulkStatusUpdateDto.setIds(List.of(ids));
+        bulkStatusUpdateDto.setStatus(status.name());
+        return bulkStatusUpdateDto;
+    }
+}
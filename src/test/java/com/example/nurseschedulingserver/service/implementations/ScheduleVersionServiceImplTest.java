@@ -0,0 +1,57 @@
+package com.example.nurseschedulingserver.service.implementations;
+
+import com.example.nurseschedulingserver.dto.nurse.NurseDto;
+import com.example.nurseschedulingserver.entity.shift.Shift;
+import com.example.nurseschedulingserver.event.ShiftsChangedEvent;
+import com.example.nurseschedulingserver.service.interfaces.NurseService;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ScheduleVersionServiceImplTest {
+    private static final YearMonth MONTH = YearMonth.of(2024, 3);
+
+    private final NurseService nurseService = mock(NurseService.class);
+    private final ScheduleVersionServiceImpl scheduleVersionService = new ScheduleVersionServiceImpl(nurseService);
+
+    @Test
+    void scopesRosterETagToDepartmentAndNurse() {
+        String eTag = eTag("d1", "n1");
+        assertNotEquals(eTag, eTag("d2", "n1"));
+        assertNotEquals(eTag, eTag("d1", "n2"));
+        assertEquals(eTag, eTag("d1", "n1"));
+    }
+
+    @Test
+    void bumpsOnlyTheChangedDepartmentForLocalWrites() {
+        NurseDto nurse = mock(NurseDto.class);
+        when(nurse.getDepartmentId()).thenReturn("d1");
+        when(nurseService.getNurseById("n1")).thenReturn(nurse);
+        String first = eTag("d1", "n1");
+        String other = eTag("d2", "n1");
+
+        Shift shift = new Shift();
+        shift.setNurseId("n1");
+        shift.setStartDate(Date.from(MONTH.atDay(5).atStartOfDay(ZoneId.systemDefault()).toInstant()));
+        scheduleVersionService.onShiftsChanged(new ShiftsChangedEvent(List.of(shift)));
+        String second = eTag("d1", "n1");
+        assertNotEquals(first, second);
+        assertEquals(other, eTag("d2", "n1"));
+
+        scheduleVersionService.rosterChanged(MONTH);
+        assertNotEquals(second, eTag("d1", "n1"));
+        assertNotEquals(other, eTag("d2", "n1"));
+    }
+
+    private String eTag(String departmentId, String nurseId) {
+        return scheduleVersionService.getRosterVersion(departmentId, MONTH, nurseId).getETag();
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.nurseschedulingserver.service.implementations;
+
+import com.example.nurseschedulingserver.cache.CoalescingShiftReader;
+import com.example.nurseschedulingserver.cache.RosterIndexCache;
+import com.example.nurseschedulingserver.dto.shift.ExchangeShiftDto;
+import com.example.nurseschedulingserver.entity.shift.Shift;
+import com.example.nurseschedulingserver.repository.ShiftRepository;
+import com.example.nurseschedulingserver.scheduling.ShiftExchangeExecutor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@Import({ShiftServiceImpl.class, ShiftExchangeExecutor.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {"spring.jpa.database=H2", "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=false"})
+class ShiftExchangeConcurrencyTest {
+    private static final int SHIFTS = 10;
+    private static final int THREADS = 8;
+    private static final int EXCHANGES_PER_THREAD = 100;
+
+    @Autowired
+    private ShiftServiceImpl shiftService;
+    @Autowired
+    private ShiftRepository shiftRepository;
+    @MockBean
+    private NurseServiceImpl nurseService;
+    @MockBean
+    private RosterIndexCache rosterIndexCache;
+    @MockBean
+    private CoalescingShiftReader shiftReader;
+
+    @Test
+    void concurrentExchangesNeitherLoseNorDuplicateAssignments() throws Exception {
+        List<String> shiftIds = new ArrayList<>();
+        for (int i = 0; i < SHIFTS; i++) {
+            Shift shift = new Shift();
+            shift.setNurseId("nurse-" + i);
+            shift.setStartDate(new Date());
+            shift.setEndDate(new Date());
+            shiftIds.add(shiftRepository.save(shift).getId());
+        }
+
+        AtomicInteger exchanged = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < EXCHANGES_PER_THREAD; i++) {
+                    int first = random.nextInt(SHIFTS);
+                    int second = (first + 1 + random.nextInt(SHIFTS - 1)) % SHIFTS;
+                    ExchangeShiftDto exchange = new ExchangeShiftDto();
+                    exchange.setFirstShiftId(shiftIds.get(first));
+                    exchange.setSecondShiftId(shiftIds.get(second));
+                    try {
+                        shiftService.exchangeShifts(exchange);
+                        exchanged.incrementAndGet();
+                    } catch (OptimisticLockingFailureException ignored) {
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        List<Shift> shifts = shiftRepository.findAllById(shiftIds);
+        Set<String> nurseIds = new HashSet<>();
+        long versions = 0;
+        for (Shift shift : shifts) {
+            nurseIds.add(shift.getNurseId());
+            versions += shift.getVersion();
+        }
+        assertEquals(SHIFTS, nurseIds.size());
+        assertEquals(2L * exchanged.get(), versions);
+        assertTrue(exchanged.get() > 0);
+    }
+}
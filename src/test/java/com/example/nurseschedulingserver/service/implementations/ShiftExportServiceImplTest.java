@@ -0,0 +1,96 @@
+package com.example.nurseschedulingserver.service.implementations;
+
+import com.example.nurseschedulingserver.dto.export.ExportStatisticsDto;
+import com.example.nurseschedulingserver.enums.ExportFormat;
+import com.example.nurseschedulingserver.repository.ShiftExportRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ShiftExportServiceImplTest {
+    private static final LocalDate FROM = LocalDate.of(2024, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 3, 31);
+    private static final Instant START = Instant.parse("2024-03-01T05:00:00Z");
+
+    private final ShiftExportRepository shiftExportRepository = mock(ShiftExportRepository.class);
+    private final ShiftExportServiceImpl shiftExportService = new ShiftExportServiceImpl(shiftExportRepository);
+
+    @Test
+    void writesCsvWithQuotedFields() throws Exception {
+        streamRows(2);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        shiftExportService.exportShifts("d1", FROM, TO, ExportFormat.CSV, output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(3, lines.length);
+        assertEquals("id,departmentId,departmentName,nurseId,nurseFirstName,nurseLastName,startDate,endDate", lines[0]);
+        assertEquals("s0,d1,\"Acil, Servis\",n0,\"Ayşe \"\"A\"\"\",,2024-03-01T05:00:00Z,2024-03-01T13:00:00Z", lines[1]);
+        ExportStatisticsDto statistics = shiftExportService.getExportStatistics();
+        assertEquals(2, statistics.getLastRowCount());
+        assertEquals(output.size(), statistics.getLastByteCount());
+    }
+
+    @Test
+    void writesOneJsonObjectPerLine() throws Exception {
+        streamRows(3);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        shiftExportService.exportShifts("d1", FROM, TO, ExportFormat.NDJSON, output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        JsonNode row = new ObjectMapper().readTree(lines[2]);
+        assertEquals("s2", row.get("id").asText());
+        assertEquals("Acil, Servis", row.get("departmentName").asText());
+        assertEquals("2024-03-01T05:00:00Z", row.get("startDate").asText());
+        assertEquals(1, shiftExportService.getExportStatistics().getExportCount());
+    }
+
+    @Test
+    void exportsAllDepartmentsWithoutTheDepartmentQuery() throws Exception {
+        doAnswer(rows(4, 2)).when(shiftExportRepository).streamAllShifts(eq(FROM), eq(TO), any());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        shiftExportService.exportAllShifts(FROM, TO, ExportFormat.CSV, output);
+
+        assertEquals(5, output.toString(StandardCharsets.UTF_8).split("\r\n").length);
+        verify(shiftExportRepository, never()).streamShifts(any(), any(), any(), any());
+    }
+
+    private void streamRows(int count) {
+        doAnswer(rows(count, 3)).when(shiftExportRepository).streamShifts(eq("d1"), any(), any(), any());
+    }
+
+    private static Answer<Void> rows(int count, int handlerIndex) {
+        return invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(handlerIndex);
+            for (int i = 0; i < count; i++) {
+                ResultSet resultSet = mock(ResultSet.class);
+                when(resultSet.getString(1)).thenReturn("s" + i);
+                when(resultSet.getString(2)).thenReturn("d1");
+                when(resultSet.getString(3)).thenReturn("Acil, Servis");
+                when(resultSet.getString(4)).thenReturn("n" + i);
+                when(resultSet.getString(5)).thenReturn("Ayşe \"A\"");
+                when(resultSet.getTimestamp(7)).thenReturn(Timestamp.from(START));
+                when(resultSet.getTimestamp(8)).thenReturn(Timestamp.from(START.plusSeconds(8 * 3600)));
+                handler.processRow(resultSet);
+            }
+            return null;
+        };
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.nurseschedulingserver.service.implementations;
+
+import com.example.nurseschedulingserver.dto.auth.AuthProjection;
+import com.example.nurseschedulingserver.dto.workday.WorkDayImportErrorDto;
+import com.example.nurseschedulingserver.dto.workday.WorkDayImportResultDto;
+import com.example.nurseschedulingserver.dto.workday.WorkDayImportRowDto;
+import com.example.nurseschedulingserver.entity.nurse.Nurse;
+import com.example.nurseschedulingserver.entity.workday.WorkDay;
+import com.example.nurseschedulingserver.repository.NurseRepository;
+import com.example.nurseschedulingserver.repository.WorkDayImportRepository;
+import com.example.nurseschedulingserver.repository.WorkDayRepository;
+import com.example.nurseschedulingserver.service.interfaces.NurseService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@Import({WorkDayServiceImpl.class, WorkDayImportRepository.class})
+@TestPropertySource(properties = {"spring.jpa.database=H2", "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=false"})
+class WorkDayImportTest {
+    @Autowired
+    private WorkDayServiceImpl workDayService;
+    @Autowired
+    private NurseRepository nurseRepository;
+    @Autowired
+    private WorkDayRepository workDayRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @MockBean
+    private NurseService nurseService;
+
+    private Nurse first;
+    private Nurse second;
+
+    @BeforeEach
+    void setUp() {
+        first = saveNurse("11111111111");
+        second = saveNurse("22222222222");
+        AuthProjection user = mock(AuthProjection.class);
+        when(user.getDepartmentId()).thenReturn("d1");
+        when(nurseService.getLoggedInUser()).thenReturn(user);
+        when(nurseService.getNursesByDepartment("d1")).thenReturn(List.of(first, second));
+
+        WorkDay workDay = new WorkDay();
+        workDay.setNurseId(first.getId());
+        workDay.setWorkDate(new ArrayList<>(List.of(date(2024, 2, 28), date(2024, 3, 10), date(2024, 3, 11))));
+        workDayRepository.saveAndFlush(workDay);
+    }
+
+    @Test
+    void importsValidCsvRowsAndReportsTheRest() {
+        String csv = "nurse,days\n" +
+                "11111111111,1 2 3\n" +
+                second.getId() + ",\"5,6,6\"\n" +
+                "33333333333,1\n" +
+                "11111111111,4\n" +
+                "22222222222,x\n" +
+                "\n" +
+                "22222222222,32\n";
+
+        WorkDayImportResultDto result = workDayService.importWorkDaysCsv("3", "2024", csv);
+
+        assertEquals(2, result.getImportedCount());
+        assertEquals(4, result.getFailedCount());
+        assertEquals(List.of(4, 5, 6, 8), result.getErrors().stream().map(WorkDayImportErrorDto::getRow).toList());
+        assertEquals("Nurse appears more than once", result.getErrors().get(3).getMessage());
+        assertEquals(List.of(date(2024, 2, 28), date(2024, 3, 1), date(2024, 3, 2), date(2024, 3, 3)), workDates(first.getId()));
+        assertEquals(List.of(date(2024, 3, 5), date(2024, 3, 6)), workDates(second.getId()));
+    }
+
+    @Test
+    void importsJsonRows() {
+        WorkDayImportResultDto result = workDayService.importWorkDays("3", "2024", List.of(
+                new WorkDayImportRowDto(second.getId(), List.of(7)),
+                new WorkDayImportRowDto(first.getId(), List.of())));
+
+        assertEquals(2, result.getImportedCount());
+        assertEquals(List.of(date(2024, 2, 28)), workDates(first.getId()));
+        assertEquals(List.of(date(2024, 3, 7)), workDates(second.getId()));
+
+        result = workDayService.importWorkDays("2", "2024", List.of(new WorkDayImportRowDto(first.getId(), List.of(30))));
+        assertEquals(0, result.getImportedCount());
+        assertEquals("Day 30 is not in 2024-02", result.getErrors().get(0).getMessage());
+    }
+
+    private List<Timestamp> workDates(String nurseId) {
+        return jdbcTemplate.queryForList("SELECT wdwd.work_date FROM work_day_work_date wdwd " +
+                "INNER JOIN work_days ON work_days.id = wdwd.work_day_id WHERE work_days.nurse_id = ? ORDER BY wdwd.work_date", Timestamp.class, nurseId);
+    }
+
+    private Nurse saveNurse(String tcKimlikNo) {
+        Nurse nurse = new Nurse();
+        nurse.setTcKimlikNo(tcKimlikNo);
+        nurse.setDepartmentId("d1");
+        return nurseRepository.save(nurse);
+    }
+
+    private static Timestamp date(int year, int month, int day) {
+        return Timestamp.valueOf(LocalDate.of(year, month, day).atStartOfDay());
+    }
+}